@@ -0,0 +1,86 @@
+package com.thejoa703.benchmark;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.thejoa703.dto.response.PostResponseDto;
+
+/**
+ * 피드 인코딩 비교 - JSON vs CBOR vs Smile (/api/posts Accept 협상)
+ * - ns/op : 게시글 목록 직렬화 / 역직렬화 (모바일 클라이언트 파싱 비용 참고)
+ * - bytes/op : gc.alloc.rate.norm (build.gradle jmh profilers) , Setup 에서는 출력하지 않음 (JMH 결과만 남도록)
+ * - 실행 : ./gradlew jmh -Pjmh.includes=FeedEncodingBenchmark  (또는 jmh { includes } 설정)
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FeedEncodingBenchmark {
+
+	@Param({"json", "cbor", "smile"})
+	private String encoding;
+
+	@Param({"10", "50"})
+	private int size;  // 페이지 크기
+
+	private ObjectWriter writer;
+	private ObjectReader reader;
+	private List<PostResponseDto> posts;
+	private byte[] encoded;
+
+	@Setup
+	public void setup() throws IOException {
+		// 애플리케이션 컨버터와 같은 설정 (JacksonConfig)
+		JsonFactory factory = switch (encoding) {
+			case "cbor" -> new CBORFactory();
+			case "smile" -> new SmileFactory();
+			default -> new JsonFactory();
+		};
+		ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+				.factory(factory)
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.modulesToInstall(new BlackbirdModule())
+				.build();
+		TypeReference<List<PostResponseDto>> type = new TypeReference<>() {};
+		writer = objectMapper.writerFor(type);
+		reader = objectMapper.readerFor(type);
+
+		posts = new ArrayList<>();
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < size; i++) {
+			posts.add(FeedFixtures.post(i, now.minusMinutes(i)));
+		}
+		encoded = writer.writeValueAsBytes(posts);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		return writer.writeValueAsBytes(posts);
+	}
+
+	@Benchmark
+	public List<PostResponseDto> deserialize() throws IOException {
+		return reader.readValue(encoded);
+	}
+}
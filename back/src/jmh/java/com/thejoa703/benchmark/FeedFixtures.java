@@ -0,0 +1,56 @@
+package com.thejoa703.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.thejoa703.dto.response.CommentResponseDto;
+import com.thejoa703.dto.response.FollowResponseDto;
+import com.thejoa703.dto.response.PostResponseDto;
+import com.thejoa703.entity.AppUser;
+import com.thejoa703.entity.Follow;
+
+/**
+ * 벤치마크용 피드 DTO (실제 피드와 비슷한 길이)
+ * */
+final class FeedFixtures {
+
+	private FeedFixtures() {
+	}
+
+	static PostResponseDto post(int i, LocalDateTime createdAt) {
+		PostResponseDto dto = new PostResponseDto();
+		dto.setId((long) i);
+		dto.setContent("벤치마크 게시글 내용입니다. 피드에 보이는 평균 길이 정도의 본문 " + i);
+		dto.setAuthorNickname("user" + (i % 7));
+		dto.setAuthorId((long) (i % 7));
+		dto.setImageUrls(List.of("uploads/" + i + "_a.png", "uploads/" + i + "_b.png"));
+		dto.setHashtags(List.of("bench", "feed" + (i % 3)));
+		dto.setLikeCount(i * 3);
+		dto.setCommentCount(i);
+		dto.setRetweetCount(i / 2);
+		dto.setCreatedAt(createdAt);
+		return dto;
+	}
+
+	static FollowResponseDto follow(int i, LocalDateTime createdAt) {
+		AppUser follower = AppUser.builder().id(1L).nickname("me").email("me@test.com").build();
+		AppUser followee = AppUser.builder().id((long) i + 2).nickname("friend" + i)
+				.email("friend" + i + "@test.com").ufile("uploads/default.png").build();
+		Follow follow = new Follow(follower, followee);
+		follow.setId((long) i);
+		follow.setCreatedAt(createdAt);
+		return FollowResponseDto.of(follow, followee, false);
+	}
+
+	static CommentResponseDto comment(int i, LocalDateTime createdAt) {
+		return CommentResponseDto.builder()
+				.id((long) i)
+				.content("댓글 " + i)
+				.authorNickname("user" + (i % 5))
+				.createdAt(createdAt)
+				.parentId(i % 4 == 0 ? null : (long) (i - 1))
+				.replyCount(i % 3)
+				.path(String.format("%06d", i))
+				.build();
+	}
+}
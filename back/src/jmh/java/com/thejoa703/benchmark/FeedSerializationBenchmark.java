@@ -0,0 +1,90 @@
+package com.thejoa703.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.thejoa703.dto.response.CommentResponseDto;
+import com.thejoa703.dto.response.FollowResponseDto;
+import com.thejoa703.dto.response.PostResponseDto;
+
+/**
+ * 피드 DTO 목록 JSON 직렬화 - 기본 Jackson vs Blackbird
+ * - ns/op : 목록 하나 직렬화 시간 , gc.alloc.rate.norm : 할당 bytes/op (build.gradle jmh profilers)
+ * - 응답 크기는 모듈과 관계없이 같음 (Setup 에서 출력하지 않음 - JMH 결과만 남도록)
+ * - 실행 : ./gradlew jmh
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FeedSerializationBenchmark {
+
+	@Param({"default", "blackbird"})
+	private String mapper;
+
+	@Param({"10", "50"})
+	private int size;  // 페이지 크기
+
+	private ObjectWriter postWriter;
+	private ObjectWriter followWriter;
+	private ObjectWriter commentWriter;
+	private List<PostResponseDto> posts;
+	private List<FollowResponseDto> follows;
+	private List<CommentResponseDto> comments;
+
+	@Setup
+	public void setup() {
+		// 애플리케이션 ObjectMapper 와 같은 설정 (JavaTimeModule , ISO 날짜)
+		Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		if ("blackbird".equals(mapper)) {
+			builder.modulesToInstall(new BlackbirdModule());
+		}
+		ObjectMapper objectMapper = builder.build();
+		postWriter = objectMapper.writerFor(new TypeReference<List<PostResponseDto>>() {});
+		followWriter = objectMapper.writerFor(new TypeReference<List<FollowResponseDto>>() {});
+		commentWriter = objectMapper.writerFor(new TypeReference<List<CommentResponseDto>>() {});
+
+		posts = new ArrayList<>();
+		follows = new ArrayList<>();
+		comments = new ArrayList<>();
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < size; i++) {
+			posts.add(FeedFixtures.post(i, now.minusMinutes(i)));
+			follows.add(FeedFixtures.follow(i, now.minusHours(i)));
+			comments.add(FeedFixtures.comment(i, now.minusSeconds(i)));
+		}
+	}
+
+	@Benchmark
+	public byte[] posts() throws JsonProcessingException {
+		return postWriter.writeValueAsBytes(posts);
+	}
+
+	@Benchmark
+	public byte[] follows() throws JsonProcessingException {
+		return followWriter.writeValueAsBytes(follows);
+	}
+
+	@Benchmark
+	public byte[] comments() throws JsonProcessingException {
+		return commentWriter.writeValueAsBytes(comments);
+	}
+}
@@ -2,8 +2,10 @@ package com.thejoa703;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling  // 토큰 폐기목록 갱신 등 주기작업
 public class BackApplication {
 
 	public static void main(String[] args) {
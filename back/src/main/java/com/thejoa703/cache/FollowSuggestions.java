@@ -0,0 +1,148 @@
+package com.thejoa703.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 팔로우 추천 저장소 (Redis ZSET  suggest:follow:<userId>  추천 사용자 ID → 함께 아는 사람 수)
+ * - 전체 갱신 : FollowSuggestionJob 이 친구의 친구를 세서 사용자별 상위 top-n 을 통째로 교체
+ * - 증분 : 팔로우하면 그 사람은 빼고 , 그 사람이 팔로우하는 사람들 점수 +1 (FollowService.follow)
+ * - 언팔로우는 다음 전체 갱신에서 반영 (팔로우가 하나도 없게 된 사용자는 키 삭제) , 갱신이 멈추면 ttl 후 만료
+ * */
+@Slf4j
+@Component
+public class FollowSuggestions {
+
+	private static final String KEY_PREFIX = "suggest:follow:";
+
+	/**
+	 * 추천 한 건
+	 * @param userId 추천 사용자
+	 * @param mutual 함께 아는 사람 수 (내가 팔로우하는 사람 중 그 사람을 팔로우하는 사람)
+	 * */
+	public record Suggestion(long userId, int mutual) {}
+
+	private final StringRedisTemplate redisTemplate;
+	private final int topN;
+	private final long ttlSeconds;
+
+	public FollowSuggestions(StringRedisTemplate redisTemplate,
+							 @Value("${app.follow-suggestions.top-n:50}") int topN,
+							 @Value("${app.follow-suggestions.ttl-hours:48}") long ttlHours) {
+		this.redisTemplate = redisTemplate;
+		this.topN = topN;
+		this.ttlSeconds = Duration.ofHours(ttlHours).toSeconds();
+	}
+
+	public int getTopN() {
+		return topN;
+	}
+
+	/**
+	 * 여러 사용자 추천 교체 - 한번의 파이프라인
+	 * @param userIds 사용자 (suggestions 와 같은 순서)
+	 * */
+	public void replace(long[] userIds, List<List<Suggestion>> suggestions) {
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			StringRedisConnection redis = (StringRedisConnection) connection;
+			for (int i = 0; i < userIds.length; i++) {
+				String key = KEY_PREFIX + userIds[i];
+				redis.del(key);
+				List<Suggestion> list = suggestions.get(i);
+				if (!list.isEmpty()) {
+					for (Suggestion s : list) {
+						redis.zAdd(key, s.mutual(), String.valueOf(s.userId()));
+					}
+					redis.expire(key, ttlSeconds);
+				}
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * keep 이 아닌 사용자의 추천 키 삭제 (전체 갱신 후 - 그래프에서 빠진 사용자)
+	 * - KEYS 대신 SCAN (Redis 를 막지 않음) , 500 개씩 DEL
+	 * @return 삭제한 키 수
+	 * */
+	public long removeExcept(LongPredicate keep) {
+		List<String> stale = new ArrayList<>();
+		long removed = 0;
+		try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+			while (keys.hasNext()) {
+				String key = keys.next();
+				if (!keep.test(Long.parseLong(key.substring(KEY_PREFIX.length())))) {
+					stale.add(key);
+				}
+				if (stale.size() >= 500) {
+					removed += delete(stale);
+				}
+			}
+		}
+		return removed + delete(stale);
+	}
+
+	private long delete(List<String> keys) {
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		Long n = redisTemplate.delete(keys);
+		keys.clear();
+		return n != null ? n : 0;
+	}
+
+	/**
+	 * 증분 반영 - userId 가 followeeId 를 팔로우함
+	 * @param candidates followeeId 가 팔로우하는 사람 중 userId 가 아직 팔로우하지 않은 사람
+	 * */
+	public void followed(Long userId, Long followeeId, Collection<Long> candidates) {
+		String key = KEY_PREFIX + userId;
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				StringRedisConnection redis = (StringRedisConnection) connection;
+				redis.zRem(key, String.valueOf(followeeId));
+				for (Long candidate : candidates) {
+					redis.zIncrBy(key, 1, String.valueOf(candidate));
+				}
+				redis.zRemRange(key, 0, -(topN + 1));  // 점수 낮은 쪽부터 top-n 초과분 제거
+				redis.expire(key, ttlSeconds);
+				return null;
+			});
+		} catch (RuntimeException e) {
+			log.warn("follow suggestions not updated : userId={} {}", userId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 함께 아는 사람이 많은 순 (Redis 장애시 빈 목록)
+	 * */
+	public List<Suggestion> get(Long userId, int size) {
+		try {
+			Set<ZSetOperations.TypedTuple<String>> tuples =
+					redisTemplate.opsForZSet().reverseRangeWithScores(KEY_PREFIX + userId, 0, size - 1);
+			List<Suggestion> result = new ArrayList<>();
+			if (tuples != null) {
+				tuples.forEach(t -> result.add(new Suggestion(Long.parseLong(t.getValue()), t.getScore().intValue())));
+			}
+			return result;
+		} catch (RuntimeException e) {
+			log.warn("follow suggestions unavailable : {}", e.getMessage());
+			return List.of();
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.thejoa703.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 피드 (Redis ZSET  feed:hot (app.hot-feed.key)  게시글 ID → 점수)
+ * - 좋아요 / 댓글 / 리트윗 때마다 ZINCRBY - 점수 계산 SQL 없음
+ *   취소 / 삭제는 hot-feed-subtract.lua (순위에 없으면 그대로 , 최소 점수 미만이 되면 제거 - 음수 점수 없음)
+ * - 주기적으로 반감기만큼 전체 점수 감쇠 (HotFeedDecayJob → hot-feed-decay.lua) , 낮은 점수 / max-size 초과는 제거
+ * - 조회 = ZREVRANGE 한번 + 게시글 일괄 조회 (PostService.getHotPostsPaged)
+ * - 롤백된 변경도 반영될 수 있음 (근사 순위) , Redis 장애시 기록 생략 / 빈 목록
+ * */
+@Slf4j
+@Component
+public class HotFeed {
+
+	private static final RedisScript<Long> DECAY_SCRIPT =
+			RedisScript.of(new ClassPathResource("redis/hot-feed-decay.lua"), Long.class);
+	private static final RedisScript<Long> SUBTRACT_SCRIPT =
+			RedisScript.of(new ClassPathResource("redis/hot-feed-subtract.lua"), Long.class);
+
+	/** 반응 종류별 가중치 */
+	public enum Signal {
+		LIKE(1), COMMENT(2), RETWEET(3);
+
+		private final double weight;
+
+		Signal(double weight) {
+			this.weight = weight;
+		}
+	}
+
+	private final StringRedisTemplate redisTemplate;
+	private final String key;           // 순위 ZSET
+	private final String decayedAtKey;  // 마지막 감쇠 시각(ms)
+
+	@Value("${app.hot-feed.half-life-minutes:360}") private long halfLifeMinutes;
+	@Value("${app.hot-feed.min-score:0.05}")        private double minScore;
+	@Value("${app.hot-feed.max-size:10000}")        private long maxSize;
+
+	public HotFeed(StringRedisTemplate redisTemplate,
+				   @Value("${app.hot-feed.key:feed:hot}") String key) {  // 테스트는 따로 (공유 순위 / 감쇠 시각을 건드리지 않도록)
+		this.redisTemplate = redisTemplate;
+		this.key = key;
+		this.decayedAtKey = key + ":decayed-at";
+	}
+
+	public void add(Long postId, Signal signal) {
+		try {
+			redisTemplate.opsForZSet().incrementScore(key, String.valueOf(postId), signal.weight);
+		} catch (RuntimeException e) {
+			log.warn("hot feed not updated : postId={} {}", postId, e.getMessage());
+		}
+	}
+
+	// 좋아요 취소 , 댓글 / 리트윗 삭제
+	public void subtract(Long postId, Signal signal) {
+		try {
+			redisTemplate.execute(SUBTRACT_SCRIPT, List.of(key),
+					String.valueOf(postId), String.valueOf(signal.weight), String.valueOf(minScore));
+		} catch (RuntimeException e) {
+			log.warn("hot feed not updated : postId={} {}", postId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 점수 높은 순 게시글 ID (0 부터 , end 포함)
+	 * */
+	public List<Long> range(long start, long end) {
+		try {
+			Set<String> ids = redisTemplate.opsForZSet().reverseRange(key, start, end);
+			return ids == null ? List.of() : ids.stream().map(Long::valueOf).toList();
+		} catch (RuntimeException e) {
+			log.warn("hot feed unavailable : {}", e.getMessage());
+			return List.of();
+		}
+	}
+
+	// 삭제 / 보관된 게시글
+	public void remove(Collection<Long> postIds) {
+		if (postIds.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.opsForZSet().remove(key, postIds.stream().map(String::valueOf).toArray());
+		} catch (RuntimeException e) {
+			log.warn("hot feed remove failed : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 감쇠 + 정리
+	 * @return 제거한 게시글 수
+	 * */
+	public long decay() {
+		Long removed = redisTemplate.execute(DECAY_SCRIPT, List.of(key, decayedAtKey),
+				String.valueOf(halfLifeMinutes * 60_000), String.valueOf(minScore), String.valueOf(maxSize));
+		return removed != null ? removed : 0;
+	}
+}
@@ -0,0 +1,274 @@
+package com.thejoa703.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+import com.thejoa703.dto.response.PostResponseDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 단건 캐시 (2단계)
+ * - 1단계 : 노드별 Caffeine (네트워크 없음)   2단계 : Redis  post:dto:<id> (직렬화된 PostResponseDto)
+ * - 같은 게시글 동시 miss 는 한 요청만 DB 조회 (single-flight) , 나머지는 그 결과를 기다림
+ * - fresh-seconds 가 지난 항목은 그대로 응답하고 백그라운드에서 다시 로딩 (stale-while-revalidate)
+ * - 변경시 evict → Redis 삭제 + pub/sub 으로 모든 노드 Caffeine 무효화 (트랜잭션 종료 후 한번 더)
+ * */
+@Slf4j
+@Component
+public class PostCache implements MessageListener {
+
+	private static final String KEY_PREFIX = "post:dto:";
+	private static final String CHANNEL = "post:invalidate";
+
+	/**
+	 * 캐시 항목
+	 * @param post 게시글 응답 (공유 객체 - 수정하지 말것)
+	 * @param etag 응답 본문 해시 (약한 ETag)
+	 * @param loadedAt DB 에서 읽은 시각 (ms)
+	 * */
+	public record Entry(PostResponseDto post, String etag, long loadedAt) {}
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ObjectMapper objectMapper;
+	private final long freshMillis;
+	private final Duration ttl;
+
+	private final Cache<Long, Entry> near;
+	private final ConcurrentHashMap<Long, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+	// 무효화 순번 - 로딩 시작 후 무효화된 게시글은 결과를 캐시에 넣지 않음 (이전 값 덮어쓰기 방지)
+	private final AtomicLong sequence = new AtomicLong();
+	private final Cache<Long, Long> invalidatedAt;
+	private final ThreadPoolExecutor refresher;
+
+	public PostCache(StringRedisTemplate redisTemplate,
+					 RedisMessageListenerContainer listenerContainer,
+					 ObjectMapper objectMapper,
+					 MeterRegistry meterRegistry,
+					 @Value("${app.post-cache.fresh-seconds:30}") long freshSeconds,
+					 @Value("${app.post-cache.ttl-seconds:300}") long ttlSeconds,
+					 @Value("${app.post-cache.near-ttl-seconds:60}") long nearTtlSeconds,
+					 @Value("${app.post-cache.near-max-size:10000}") long nearMaxSize) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.objectMapper = objectMapper;
+		this.freshMillis = freshSeconds * 1000L;
+		this.ttl = Duration.ofSeconds(ttlSeconds);
+		this.near = Caffeine.newBuilder()
+				.maximumSize(nearMaxSize)
+				.expireAfterWrite(Duration.ofSeconds(nearTtlSeconds))
+				.recordStats()
+				.build();
+		this.invalidatedAt = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.build();
+		this.refresher = new ThreadPoolExecutor(1, 2, 30L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(256),
+				new CustomizableThreadFactory("post-cache-refresh-"),
+				new ThreadPoolExecutor.AbortPolicy());
+		CaffeineCacheMetrics.monitor(meterRegistry, near, "post.near");
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 조회 - Caffeine → Redis → DB(loader)
+	 * @param postId 게시글 ID
+	 * @param loader DB 조회 (없으면 IllegalArgumentException) , 백그라운드 스레드에서도 호출됨
+	 * */
+	public Entry get(Long postId, Supplier<PostResponseDto> loader) {
+		return get(postId, loader, true);
+	}
+
+	/**
+	 * 조회 - fill 이 false 면 miss 를 loader 로 읽기만 하고 캐시에 넣지 않음 (REPLICA 에서 읽었을 수 있는 값)
+	 * */
+	public Entry get(Long postId, Supplier<PostResponseDto> loader, boolean fill) {
+		Entry entry = near.getIfPresent(postId);
+		if (entry == null) {
+			entry = readRedis(postId);
+			if (entry != null) {
+				near.put(postId, entry);
+			}
+		}
+		if (entry == null) {
+			return fill ? load(postId, loader) : entry(postId, loader.get());
+		}
+		if (System.currentTimeMillis() - entry.loadedAt() > freshMillis) {
+			refreshAsync(postId, loader);  // 오래된 값으로 바로 응답
+		}
+		return entry;
+	}
+
+	/**
+	 * 무효화 - 지금 바로 + 트랜잭션 종료 후 한번 더
+	 * - 커밋 전에 다른 요청이 이전 값을 다시 캐시에 넣을 수 있으므로 종료 후 다시 삭제
+	 * */
+	public void evict(Long postId) {
+		evictEverywhere(postId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evictEverywhere(postId);
+				}
+			});
+		}
+	}
+
+	// 다른 노드의 무효화 알림
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+	}
+
+	// miss - 같은 게시글은 한 스레드만 로딩
+	private Entry load(Long postId, Supplier<PostResponseDto> loader) {
+		CompletableFuture<Entry> mine = new CompletableFuture<>();
+		CompletableFuture<Entry> running = inFlight.putIfAbsent(postId, mine);
+		if (running != null) {
+			try {
+				return running.join();
+			} catch (CompletionException | CancellationException e) {
+				// 먼저 로딩한 요청이 실패 → 직접 로딩 (없는 게시글이면 같은 예외)
+				return loadAndStore(postId, loader);
+			}
+		}
+		try {
+			Entry entry = loadAndStore(postId, loader);
+			mine.complete(entry);
+			return entry;
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(postId, mine);
+		}
+	}
+
+	// stale - 이미 로딩중이면 생략
+	private void refreshAsync(Long postId, Supplier<PostResponseDto> loader) {
+		CompletableFuture<Entry> mine = new CompletableFuture<>();
+		if (inFlight.putIfAbsent(postId, mine) != null) {
+			return;
+		}
+		try {
+			refresher.execute(() -> {
+				try {
+					mine.complete(loadAndStore(postId, loader));
+				} catch (RuntimeException e) {
+					mine.completeExceptionally(e);
+					if (e instanceof IllegalArgumentException) {
+						evictEverywhere(postId);  // 그 사이 삭제된 게시글
+					} else {
+						log.warn("post cache refresh failed : postId={} {}", postId, e.getMessage());
+					}
+				} finally {
+					inFlight.remove(postId, mine);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			inFlight.remove(postId, mine);
+			mine.cancel(false);  // 다음 요청이 다시 시도
+		}
+	}
+
+	private Entry loadAndStore(Long postId, Supplier<PostResponseDto> loader) {
+		long startedAt = sequence.incrementAndGet();
+		Entry entry = entry(postId, loader.get());
+
+		Long invalidated = invalidatedAt.getIfPresent(postId);
+		if (invalidated != null && invalidated > startedAt) {
+			return entry;  // 로딩 도중 변경됨 → 이번 요청에만 사용
+		}
+		near.put(postId, entry);
+		try {
+			redisTemplate.opsForValue().set(KEY_PREFIX + postId, write(entry), ttl);
+		} catch (RuntimeException e) {
+			log.warn("post cache write failed : postId={} {}", postId, e.getMessage());
+		}
+		return entry;
+	}
+
+	private Entry entry(Long postId, PostResponseDto post) {
+		return new Entry(post, etag(postId, write(post)), System.currentTimeMillis());
+	}
+
+	private Entry readRedis(Long postId) {
+		try {
+			String json = redisTemplate.opsForValue().get(KEY_PREFIX + postId);
+			return json != null ? objectMapper.readValue(json, Entry.class) : null;
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("post cache read failed : postId={} {}", postId, e.getMessage());
+			return null;  // DB 에서 읽음
+		}
+	}
+
+	private void evictEverywhere(Long postId) {
+		evictLocal(postId);
+		try {
+			redisTemplate.delete(KEY_PREFIX + postId);
+			redisTemplate.convertAndSend(CHANNEL, postId.toString());
+		} catch (RuntimeException e) {
+			// 다른 노드는 near-ttl-seconds 안에 만료
+			log.warn("post cache evict failed : postId={} {}", postId, e.getMessage());
+		}
+	}
+
+	private void evictLocal(Long postId) {
+		invalidatedAt.put(postId, sequence.incrementAndGet());
+		near.invalidate(postId);
+	}
+
+	private String write(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("post cache serialize failed", e);
+		}
+	}
+
+	// 본문 해시 - 내용/이미지/해시태그/작성자/카운트 중 하나라도 바뀌면 달라짐
+	private static String etag(Long postId, String json) {
+		return "W/\"p" + postId + "-" + Hashing.murmur3_128().hashString(json, StandardCharsets.UTF_8) + "\"";
+	}
+
+	@PreDestroy
+	void shutdown() {
+		refresher.shutdown();
+	}
+}
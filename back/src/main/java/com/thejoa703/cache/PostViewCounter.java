@@ -0,0 +1,161 @@
+package com.thejoa703.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.google.common.hash.Hashing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 (Redis)
+ * - post:views:<id>   INCR  - 전체 조회수 (누적값 , 키가 없어졌으면 DB 값으로 다시 채움)
+ * - post:viewers:<id> PFADD - 순 방문자 (HyperLogLog , 사용자 ID 또는 IP 해시 , 오차 ~0.8%)
+ * - post:views:dirty  SADD  - flush 할 게시글 (PostViewFlushJob 이 POST_VIEWS 로 옮김)
+ * - 조회마다 DB 쓰기 없음 , 한번의 스크립트 (redis/post-view.lua , Redis 장애시 기록 생략)
+ *   조회수 키가 없으면 스크립트가 -1 → DB 값을 읽어 한번 더 (시드 + INCR 이 한 스크립트라 그 사이 조회가 섞이지 않음)
+ * - 조회수 키는 마지막 조회 후 ttl-days 가 지나면 만료 (그 전에 flush 됨)
+ *   순 방문자는 마지막 조회 후 viewers-ttl-days (길게) - DB 에는 개수만 있어서 다시 만들 수 없음 (적은 방문자는 sparse 인코딩이라 작음)
+ * - 게시글 삭제 / 보관 / 탈퇴시 remove 로 키 삭제
+ * */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+	private static final String VIEWS_PREFIX = "post:views:";
+	private static final String VIEWERS_PREFIX = "post:viewers:";
+	static final String DIRTY_KEY = "post:views:dirty";
+	private static final RedisScript<Long> VIEW_SCRIPT =
+			RedisScript.of(new ClassPathResource("redis/post-view.lua"), Long.class);
+
+	/**
+	 * 조회수
+	 * @param views 전체 조회수
+	 * @param uniqueViewers 순 방문자 (근사값)
+	 * */
+	public record Views(long views, long uniqueViewers) {}
+
+	private final StringRedisTemplate redisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final long ttlSeconds;
+	private final long viewersTtlSeconds;
+
+	public PostViewCounter(StringRedisTemplate redisTemplate,
+						   MeterRegistry meterRegistry,
+						   @Value("${app.post-views.ttl-days:7}") long ttlDays,
+						   @Value("${app.post-views.viewers-ttl-days:365}") long viewersTtlDays) {
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.ttlSeconds = ttlDays * 24 * 3600;
+		this.viewersTtlSeconds = viewersTtlDays * 24 * 3600;
+	}
+
+	/**
+	 * 조회 1회 기록
+	 * @param viewer 로그인 사용자면 "u:<id>" , 아니면 "ip:<IP>" (IP 는 해시로만 저장)
+	 * @param stored 키가 없을 때 (첫 조회 / 만료 후) 이어서 셀 DB 조회수 - 키가 없을 때만 호출
+	 * */
+	public void record(Long postId, String viewer, Function<Long, Long> stored) {
+		List<String> keys = List.of(VIEWS_PREFIX + postId, VIEWERS_PREFIX + postId, DIRTY_KEY);
+		String viewerHash = hash(viewer);
+		try {
+			Long views = execute(keys, viewerHash, postId, "");
+			if (views != null && views < 0) {
+				long base = stored.apply(postId);
+				execute(keys, viewerHash, postId, String.valueOf(base));
+			}
+			meterRegistry.counter("app.post-views.recorded").increment();
+		} catch (RuntimeException e) {
+			log.warn("post view not recorded : postId={} {}", postId, e.getMessage());
+		}
+	}
+
+	private Long execute(List<String> keys, String viewerHash, Long postId, String base) {
+		return redisTemplate.execute(VIEW_SCRIPT, keys, viewerHash, String.valueOf(ttlSeconds), String.valueOf(postId),
+				base, String.valueOf(viewersTtlSeconds));
+	}
+
+	/**
+	 * 여러 게시글 조회수 - 한번의 파이프라인 (Redis 에 없는 게시글 / 장애시 결과에 없음)
+	 * */
+	public Map<Long, Views> get(Collection<Long> postIds) {
+		Map<Long, Views> result = new LinkedHashMap<>();
+		if (postIds.isEmpty()) {
+			return result;
+		}
+		List<Long> ids = new ArrayList<>(postIds);
+		try {
+			List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				StringRedisConnection redis = (StringRedisConnection) connection;
+				for (Long id : ids) {
+					redis.get(VIEWS_PREFIX + id);
+					redis.pfCount(VIEWERS_PREFIX + id);
+				}
+				return null;
+			});
+			for (int i = 0; i < ids.size(); i++) {
+				Object views = values.get(i * 2);
+				if (views != null) {
+					result.put(ids.get(i), new Views(Long.parseLong(views.toString()), ((Number) values.get(i * 2 + 1)).longValue()));
+				}
+			}
+		} catch (RuntimeException e) {
+			log.warn("post views unavailable : {}", e.getMessage());
+		}
+		return result;
+	}
+
+	/**
+	 * flush 할 게시글 꺼내기 (여러 노드가 동시에 꺼내도 겹치지 않음)
+	 * */
+	public List<Long> popDirty(int count) {
+		List<String> ids = redisTemplate.opsForSet().pop(DIRTY_KEY, count);
+		return ids == null ? List.of() : ids.stream().map(Long::valueOf).toList();
+	}
+
+	// DB 반영 실패 - 다음 flush 에서 다시
+	public void markDirty(Collection<Long> postIds) {
+		if (!postIds.isEmpty()) {
+			redisTemplate.opsForSet().add(DIRTY_KEY, postIds.stream().map(String::valueOf).toArray(String[]::new));
+		}
+	}
+
+	/**
+	 * 삭제 / 보관된 게시글의 조회수 , 순 방문자 키 삭제 (flush 대상에서도 제외 , Redis 장애시 로그만 - 키는 ttl 로 만료)
+	 * */
+	public void remove(Collection<Long> postIds) {
+		if (postIds.isEmpty()) {
+			return;
+		}
+		List<String> keys = new ArrayList<>(postIds.size() * 2);
+		for (Long id : postIds) {
+			keys.add(VIEWS_PREFIX + id);
+			keys.add(VIEWERS_PREFIX + id);
+		}
+		try {
+			redisTemplate.delete(keys);
+			redisTemplate.opsForSet().remove(DIRTY_KEY, postIds.stream().map(String::valueOf).toArray());
+		} catch (RuntimeException e) {
+			log.warn("post views not removed : {}", e.getMessage());
+		}
+	}
+
+	// IP 원문을 Redis 에 남기지 않도록 해시
+	private static String hash(String viewer) {
+		return Hashing.sha256().hashString(viewer, StandardCharsets.UTF_8).toString();
+	}
+}
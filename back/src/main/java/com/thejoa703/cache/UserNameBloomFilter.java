@@ -0,0 +1,151 @@
+package com.thejoa703.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.thejoa703.repository.AppUserRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이메일 / 닉네임 사용여부 Bloom 필터 (회원가입 폼 중복확인)
+ * - APPUSER 에서 주기적으로 재구성 , 가입 / 닉네임 변경시 바로 추가 + pub/sub 으로 다른 노드에 전파
+ * - Bloom 에 없으면 "확실히 미사용" → DB 조회 없음 , 있으면(사용중 또는 오탐) 인덱스 조회
+ * - 첫 재구성 전 / 재구성 실패가 계속되면 기존 필터 유지 (처음엔 항상 DB)
+ * - 탈퇴한 사용자는 다음 재구성까지 "사용중일 수 있음" → DB 로 확인 (오답 없음)
+ * */
+@Slf4j
+@Component
+public class UserNameBloomFilter implements MessageListener {
+
+	private static final String CHANNEL = "appuser:names";
+	private static final String EMAIL_PREFIX = "e:";
+	private static final String NICKNAME_PREFIX = "n:";
+
+	private final AppUserRepository appUserRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final TransactionTemplate readOnlyTx;
+	private final int expectedInsertions;
+	private final double falsePositiveRate;
+
+	private volatile BloomFilter<CharSequence> bloom;     // null 이면 아직 준비 안됨
+	private volatile BloomFilter<CharSequence> building;  // 재구성 중인 Bloom (그 사이 가입도 반영)
+
+	public UserNameBloomFilter(AppUserRepository appUserRepository,
+							   StringRedisTemplate redisTemplate,
+							   RedisMessageListenerContainer listenerContainer,
+							   PlatformTransactionManager transactionManager,
+							   @Value("${app.username-bloom.expected-insertions:1000000}") int expectedInsertions,
+							   @Value("${app.username-bloom.fpp:0.01}") double falsePositiveRate) {
+		this.appUserRepository = appUserRepository;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.readOnlyTx = new TransactionTemplate(transactionManager);
+		this.readOnlyTx.setReadOnly(true);
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	// false 면 확실히 미사용 이메일
+	public boolean mightContainEmail(String email) {
+		return mightContain(EMAIL_PREFIX + email);
+	}
+
+	// false 면 확실히 미사용 닉네임
+	public boolean mightContainNickname(String nickname) {
+		return mightContain(NICKNAME_PREFIX + nickname);
+	}
+
+	// 가입 (이메일 + 닉네임)
+	public void addUser(String email, String nickname) {
+		publish(EMAIL_PREFIX + email);
+		publish(NICKNAME_PREFIX + nickname);
+	}
+
+	// 닉네임 변경
+	public void addNickname(String nickname) {
+		publish(NICKNAME_PREFIX + nickname);
+	}
+
+	// 다른 노드의 가입 / 닉네임 변경 알림
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * APPUSER 에서 Bloom 재구성
+	 * - 탈퇴 / 변경 전 닉네임 정리 (Bloom 은 삭제가 안되므로 새로 만들어 교체)
+	 * */
+	@Scheduled(fixedDelayString = "${app.username-bloom.refresh-ms:600000}", initialDelay = 0)
+	public void refresh() {
+		try {
+			BloomFilter<CharSequence> next = newBloom();
+			building = next;
+			readOnlyTx.executeWithoutResult(status -> {
+				try (Stream<AppUserRepository.UserName> names = appUserRepository.streamNames()) {
+					names.forEach(name -> {
+						next.put(EMAIL_PREFIX + name.getEmail());
+						next.put(NICKNAME_PREFIX + name.getNickname());
+					});
+				}
+			});
+			bloom = next;
+		} catch (RuntimeException e) {
+			log.warn("username bloom refresh failed : {}", e.getMessage());
+		} finally {
+			building = null;
+		}
+	}
+
+	private boolean mightContain(String entry) {
+		BloomFilter<CharSequence> current = bloom;
+		return current == null || current.mightContain(entry);
+	}
+
+	private void publish(String entry) {
+		addLocal(entry);  // 자기 노드는 바로 반영
+		try {
+			redisTemplate.convertAndSend(CHANNEL, entry);
+		} catch (RuntimeException e) {
+			// 다른 노드는 다음 재구성때 반영 (그 사이 중복가입은 UK 제약조건이 막음)
+			log.warn("username bloom publish failed : {}", e.getMessage());
+		}
+	}
+
+	// building 을 먼저 읽음 - 그 사이 교체되어도 새 Bloom 에는 들어감
+	private void addLocal(String entry) {
+		BloomFilter<CharSequence> next = building;
+		if (next != null) {
+			next.put(entry);
+		}
+		BloomFilter<CharSequence> current = bloom;
+		if (current != null) {
+			current.put(entry);
+		}
+	}
+
+	private BloomFilter<CharSequence> newBloom() {
+		return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+	}
+}
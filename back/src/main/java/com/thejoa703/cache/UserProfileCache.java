@@ -0,0 +1,95 @@
+package com.thejoa703.cache;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thejoa703.dto.response.UserResponseDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 프로필 캐시 (Redis  user:profile:<id>)
+ * - /auth/me , /auth/refresh 가 페이지마다 호출 → 사용자 엔티티 로딩 대신 Redis 한번
+ * - 닉네임 / 프로필이미지 변경 , 탈퇴시 무효화 (트랜잭션 종료 후 한번 더)
+ * - Redis 장애시 DB 에서 읽음
+ * */
+@Slf4j
+@Component
+public class UserProfileCache {
+
+	private static final String KEY_PREFIX = "user:profile:";
+
+	/**
+	 * 캐시 항목
+	 * @param user 프로필 (/auth/me 응답)
+	 * @param updatedAt 수정일시 (ms) - Last-Modified / ETag
+	 * */
+	public record Profile(UserResponseDto user, long updatedAt) {}
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Duration ttl;
+
+	public UserProfileCache(StringRedisTemplate redisTemplate,
+							ObjectMapper objectMapper,
+							@Value("${app.profile-cache.ttl-seconds:600}") long ttlSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.ttl = Duration.ofSeconds(ttlSeconds);
+	}
+
+	/**
+	 * 조회 - Redis → DB(loader)
+	 * @param userId 사용자 ID
+	 * @param loader DB 조회 (없으면 IllegalArgumentException)
+	 * */
+	public Profile get(Long userId, Supplier<Profile> loader) {
+		String key = KEY_PREFIX + userId;
+		try {
+			String json = redisTemplate.opsForValue().get(key);
+			if (json != null) {
+				return objectMapper.readValue(json, Profile.class);
+			}
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("profile cache read failed : userId={} {}", userId, e.getMessage());
+		}
+
+		Profile profile = loader.get();
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(profile), ttl);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("profile cache write failed : userId={} {}", userId, e.getMessage());
+		}
+		return profile;
+	}
+
+	// 무효화 - 지금 바로 + 트랜잭션 종료 후 (커밋 전 값이 다시 캐시되는 경우 대비)
+	public void evict(Long userId) {
+		delete(userId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					delete(userId);
+				}
+			});
+		}
+	}
+
+	private void delete(Long userId) {
+		try {
+			redisTemplate.delete(KEY_PREFIX + userId);
+		} catch (RuntimeException e) {
+			// ttl-seconds 후 만료
+			log.warn("profile cache evict failed : userId={} {}", userId, e.getMessage());
+		}
+	}
+}
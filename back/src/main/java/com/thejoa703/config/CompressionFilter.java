@@ -0,0 +1,375 @@
+package com.thejoa703.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * 응답 gzip 압축 필터
+ * - app.compression.mime-types 이고 min-response-size 이상인 응답만 압축 (작은 응답은 그대로 + Content-Length)
+ * - 처음 min-response-size 만큼만 모아서 판단 → 이후는 바로 압축해서 내보냄 (전체 본문을 모으지 않음)
+ * - NDJSON / SSE 는 flush 마다 압축 블록을 내보냄 (sync flush) , 비동기 응답은 마지막 dispatch 에서 마무리
+ * - 이미 Content-Encoding 이 있는 응답 (미리 압축된 /uploads 정적파일) 은 건드리지 않음
+ * - 압축 대상 타입(또는 304 처럼 타입 없는 응답) 은 실제 압축 여부와 관계없이 Vary: Accept-Encoding (공유 캐시가 표현을 섞지 않도록)
+ * - 비동기 non-blocking 쓰기 (setWriteListener) 는 압축하지 않고 원본 스트림에 위임
+ * - http.server.compression.{original,compressed,saved} 바이트 카운터
+ * - Tomcat 압축(server.compression) 대신 사용 → 절약한 바이트를 측정하기 위해
+ * */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class CompressionFilter extends OncePerRequestFilter {
+
+	public static final String METRIC_PREFIX = "http.server.compression.";
+
+	private final CompressionProperties props;
+	private final List<MimeType> mimeTypes;
+	private final List<MimeType> streamingMimeTypes;
+	private final Counter originalBytes;
+	private final Counter compressedBytes;
+	private final Counter savedBytes;
+
+	public CompressionFilter(CompressionProperties props, MeterRegistry meterRegistry) {
+		this.props = props;
+		this.mimeTypes = props.getMimeTypes().stream().map(MimeType::valueOf).toList();
+		this.streamingMimeTypes = props.getStreamingMimeTypes().stream().map(MimeType::valueOf).toList();
+		this.originalBytes = bytesCounter(meterRegistry, "original", "Response bytes before gzip");
+		this.compressedBytes = bytesCounter(meterRegistry, "compressed", "Response bytes after gzip");
+		this.savedBytes = bytesCounter(meterRegistry, "saved", "Response bytes saved by gzip");
+	}
+
+	private static Counter bytesCounter(MeterRegistry registry, String name, String description) {
+		return Counter.builder(METRIC_PREFIX + name).description(description).baseUnit("bytes").register(registry);
+	}
+
+	// gzip 을 받지 않는 요청도 감쌈 (압축은 안하지만 Vary 는 붙임)
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !props.isEnabled();
+	}
+
+	private static boolean acceptsGzip(HttpServletRequest request) {
+		if ("HEAD".equals(request.getMethod())) {
+			return false;
+		}
+		String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+	}
+
+	// 비동기 응답 (StreamingResponseBody 등) 은 마지막 ASYNC dispatch 에서 마무리
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		HttpServletResponse responseToUse = response;
+		GzipResponse gzipResponse = WebUtils.getNativeResponse(response, GzipResponse.class);  // ASYNC dispatch 면 처음 만든 응답
+		if (gzipResponse == null) {
+			gzipResponse = new GzipResponse(response, acceptsGzip(request));
+			responseToUse = gzipResponse;
+		}
+		filterChain.doFilter(request, responseToUse);  // 예외면 모은 본문은 버리고 컨테이너 오류 응답
+		if (!isAsyncStarted(request)) {
+			gzipResponse.finish();
+		}
+	}
+
+	private static boolean matches(List<MimeType> types, String contentType) {
+		if (contentType == null) {
+			return false;
+		}
+		MimeType mimeType = MimeType.valueOf(contentType);
+		return types.stream().anyMatch(type -> type.equalsTypeAndSubtype(mimeType));
+	}
+
+	/** 본문을 앞부분만 모았다가 압축 여부를 정하는 응답 */
+	private final class GzipResponse extends HttpServletResponseWrapper {
+
+		private final HttpServletResponse raw;
+		private final boolean acceptsGzip;
+		private ByteArrayOutputStream buffer = new ByteArrayOutputStream();  // 판단 전 앞부분
+		private OutputStream target;        // 판단 후 : gzip 또는 원본 스트림
+		private GZIPOutputStream gzip;
+		private CountingOutputStream counting;
+		private long original;
+		private long contentLength = -1;    // 압축하면 버림
+		private ServletOutputStream outputStream;
+		private PrintWriter writer;
+		private boolean finished;
+
+		GzipResponse(HttpServletResponse response, boolean acceptsGzip) {
+			super(response);
+			this.raw = response;
+			this.acceptsGzip = acceptsGzip;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() {
+			if (writer != null) {
+				throw new IllegalStateException("getWriter() has already been called");
+			}
+			return stream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			if (writer == null) {
+				if (outputStream != null) {
+					throw new IllegalStateException("getOutputStream() has already been called");
+				}
+				writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+			}
+			return writer;
+		}
+
+		@Override
+		public void setContentLength(int len) {
+			setContentLengthLong(len);
+		}
+
+		@Override
+		public void setContentLengthLong(long len) {
+			if (target == null) {
+				contentLength = len;  // 판단 후 적용
+			} else if (gzip == null) {
+				raw.setContentLengthLong(len);
+			}
+		}
+
+		@Override
+		public void setHeader(String name, String value) {
+			if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+				setContentLengthLong(Long.parseLong(value));
+			} else {
+				super.setHeader(name, value);
+			}
+		}
+
+		@Override
+		public void addHeader(String name, String value) {
+			if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+				setContentLengthLong(Long.parseLong(value));
+			} else {
+				super.addHeader(name, value);
+			}
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			if (writer != null) {
+				writer.flush();
+			} else if (outputStream != null) {
+				outputStream.flush();
+			}
+			if (target != null) {
+				super.flushBuffer();
+			}
+		}
+
+		@Override
+		public void resetBuffer() {
+			super.resetBuffer();
+			if (target == null) {
+				buffer.reset();
+				original = 0;
+			}
+		}
+
+		@Override
+		public void reset() {
+			super.reset();
+			if (target == null) {
+				buffer.reset();
+				original = 0;
+				contentLength = -1;
+			}
+		}
+
+		@Override
+		public void sendError(int sc, String msg) throws IOException {
+			resetBuffer();
+			super.sendError(sc, msg);
+		}
+
+		@Override
+		public void sendError(int sc) throws IOException {
+			resetBuffer();
+			super.sendError(sc);
+		}
+
+		private ServletOutputStream stream() {
+			if (outputStream == null) {
+				outputStream = new ServletOutputStream() {
+					@Override
+					public void write(int b) throws IOException {
+						write(new byte[] {(byte) b}, 0, 1);
+					}
+
+					@Override
+					public void write(byte[] b, int off, int len) throws IOException {
+						GzipResponse.this.write(b, off, len);
+					}
+
+					@Override
+					public void flush() throws IOException {
+						GzipResponse.this.flush();
+					}
+
+					@Override
+					public boolean isReady() {
+						return gzip != null || target == null || ((ServletOutputStream) target).isReady();
+					}
+
+					// non-blocking 쓰기 - 압축 없이 원본 스트림으로 (쓰기 전에 호출되므로 모은 본문 없음)
+					@Override
+					public void setWriteListener(WriteListener writeListener) {
+						if (gzip != null) {
+							throw new IllegalStateException("non-blocking write after compression started");
+						}
+						try {
+							if (target == null) {
+								decide(false);
+							}
+						} catch (IOException e) {
+							throw new IllegalStateException(e);
+						}
+						((ServletOutputStream) target).setWriteListener(writeListener);
+					}
+				};
+			}
+			return outputStream;
+		}
+
+		private void write(byte[] b, int off, int len) throws IOException {
+			original += len;
+			if (target != null) {
+				target.write(b, off, len);
+				return;
+			}
+			buffer.write(b, off, len);
+			if (buffer.size() >= props.getMinResponseSize()) {
+				decide(true);
+			}
+		}
+
+		// 스트리밍 타입은 크기와 관계없이 여기서 압축 시작 , 그 외에는 끝날때까지 모음
+		private void flush() throws IOException {
+			if (target == null && !finished && matches(streamingMimeTypes, getContentType())) {
+				decide(true);
+			}
+			if (target != null) {
+				target.flush();  // gzip 은 sync flush
+			}
+		}
+
+		private void decide(boolean allowCompression) throws IOException {
+			int status = getStatus();
+			vary();
+			boolean compress = allowCompression && acceptsGzip
+					&& matches(mimeTypes, getContentType())
+					&& getHeader(HttpHeaders.CONTENT_ENCODING) == null
+					&& status != HttpServletResponse.SC_NO_CONTENT
+					&& status != HttpServletResponse.SC_PARTIAL_CONTENT
+					&& status != HttpServletResponse.SC_NOT_MODIFIED;
+			if (compress) {
+				raw.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+				counting = new CountingOutputStream(raw.getOutputStream());
+				gzip = new GZIPOutputStream(counting, 8192, true);
+				target = gzip;
+			} else {
+				if (contentLength >= 0) {
+					raw.setContentLengthLong(contentLength);
+				}
+				target = raw.getOutputStream();
+			}
+			buffer.writeTo(target);
+			buffer = null;
+		}
+
+		// 압축될 수 있는 표현 (압축 대상 타입 , 304 처럼 타입 없는 응답) 은 Accept-Encoding 에 따라 달라짐
+		private void vary() {
+			String contentType = getContentType();
+			if ((contentType == null || matches(mimeTypes, contentType))
+					&& raw.getHeaders(HttpHeaders.VARY).stream().noneMatch(v -> v.contains(HttpHeaders.ACCEPT_ENCODING))) {
+				raw.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			}
+		}
+
+		// 응답 마무리 - 작은 응답은 그대로 , 압축중이면 gzip trailer
+		void finish() throws IOException {
+			if (finished) {
+				return;
+			}
+			if (writer != null) {
+				writer.flush();
+			}
+			finished = true;
+			if (target == null) {
+				if (!raw.isCommitted()) {
+					vary();
+				}
+				if (buffer.size() > 0) {
+					if (!raw.isCommitted()) {
+						raw.setContentLengthLong(buffer.size());
+					}
+					buffer.writeTo(raw.getOutputStream());
+				} else if (contentLength >= 0 && !raw.isCommitted()) {
+					raw.setContentLengthLong(contentLength);
+				}
+				return;
+			}
+			if (gzip != null) {
+				gzip.finish();
+				originalBytes.increment(original);
+				compressedBytes.increment(counting.count);
+				savedBytes.increment(Math.max(original - counting.count, 0));
+			}
+		}
+	}
+
+	/** gzip 출력 바이트 수 */
+	private static final class CountingOutputStream extends FilterOutputStream {
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package com.thejoa703.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+// 응답 압축(gzip) 설정
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.compression")  // application.yml  app.compression.* 연결
+public class CompressionProperties {
+    private boolean enabled = true;
+    private int minResponseSize = 1024;  // 이보다 작은 응답은 압축하지 않음 (bytes)
+    private List<String> mimeTypes = List.of(
+            "application/json", "application/problem+json", "application/x-ndjson",
+            "text/html", "text/plain", "text/css", "text/javascript", "application/javascript",
+            "text/event-stream", "image/svg+xml",
+            "application/cbor", "application/x-jackson-smile");  // 바이너리 피드도 문자열(본문/URL) 비중이 커서 압축됨
+    // flush 할때마다 바로 내보내는 타입 (크기 기준 전이라도 압축 시작 - 전체 본문을 모으지 않음)
+    private List<String> streamingMimeTypes = List.of("application/x-ndjson", "text/event-stream");
+}
@@ -0,0 +1,63 @@
+package com.thejoa703.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기/쓰기 분리 DataSource 설정
+ * - app.datasource.replica.enabled=true 일때만 적용 (기본은 spring.datasource 단일 Oracle)
+ * - PRIMARY : spring.datasource.*  ,  REPLICA : app.datasource.replica.*
+ * - JPA, MyBatis 모두 라우팅 DataSource 를 사용
+ * */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+	@Bean
+	@Primary
+	@ConfigurationProperties("spring.datasource")
+	public DataSourceProperties primaryDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(@Qualifier("primaryDataSourceProperties") DataSourceProperties props) {
+		return props.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties props) {
+		return props.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	// 트랜잭션의 readOnly 여부가 정해진 뒤 실제 커넥션을 얻도록 Lazy 프록시로 감싼다
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+	                             @Qualifier("replicaDataSource") DataSource replica,
+	                             @Value("${app.datasource.read-your-writes-seconds:5}") long pinSeconds,
+	                             @Value("${app.datasource.replica.down-seconds:30}") long downSeconds) {
+		RoutingDataSource routing = new RoutingDataSource(primary, replica, pinSeconds, downSeconds);
+		routing.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+}
@@ -0,0 +1,41 @@
+package com.thejoa703.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Jackson 설정
+ * - Spring Boot 가 Module 빈을 기본 ObjectMapper 에 자동 등록 (HTTP 응답 + Redis 캐시 직렬화)
+ * - Accept: application/cbor , application/x-jackson-smile 이면 같은 DTO 를 바이너리로 (모바일 피드)
+ * - 성능 비교 : src/jmh/java  FeedSerializationBenchmark , FeedEncodingBenchmark
+ * */
+@Configuration
+public class JacksonConfig {
+
+    // Blackbird - getter/setter 를 리플렉션 대신 LambdaMetafactory 로 만든 함수로 호출 (피드 목록 직렬화)
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // CBOR - JSON 과 같은 설정의 builder (ISO 날짜 , Blackbird) 로 생성 → 응답 스키마 동일
+    // (Spring 기본 CBOR/Smile 컨버터는 Boot 설정을 쓰지 않아 날짜가 배열로 나감)
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    // Smile
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,36 @@
+package com.thejoa703.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.thejoa703.metrics.SqlCountingDataSource;
+import com.thejoa703.metrics.SqlStatementCounter;
+
+/**
+ * 메트릭 설정
+ * - 서비스 메서드 : @Timed("app.service")  (management.observations.annotations.enabled)
+ * - 레파지토리 메서드 : spring.data.repository.invocations (actuator 기본 제공, repository/method 태그)
+ * - 요청당 SQL 수 : "dataSource" 빈을 SqlCountingDataSource 로 감쌈 (JPA + MyBatis 모두 JDBC 단계에서 셈)
+ * */
+@Configuration
+public class MetricsConfig {
+
+	// 단일 DataSource(자동설정) , 라우팅 DataSource(DataSourceConfig) 모두 빈 이름은 dataSource
+	//  - PRIMARY / REPLICA 풀은 감싸지 않음 (라우팅을 거친 SQL 이 두번 세어지지 않도록)
+	@Bean
+	public static BeanPostProcessor sqlCountingDataSourcePostProcessor(ObjectProvider<SqlStatementCounter> sqlStatementCounter) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+					return new SqlCountingDataSource(dataSource, sqlStatementCounter.getObject());
+				}
+				return bean;
+			}
+		};
+	}
+}
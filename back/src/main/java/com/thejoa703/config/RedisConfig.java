@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
@@ -25,4 +26,11 @@ public class RedisConfig {
     public StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory factory) {
         return new StringRedisTemplate(factory);
     }
+    // Redis pub/sub 구독 컨테이너 (노드간 알림 - 토큰 폐기 등)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(LettuceConnectionFactory factory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        return container;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.thejoa703.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import com.thejoa703.oauth2.CustomOAuth2User;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅
+ * - @Transactional(readOnly = true) → REPLICA , 그 외 → PRIMARY
+ * - read-your-writes : 요청 스레드에서 쓰기 트랜잭션을 커밋한 사용자는 pinSeconds 동안 PRIMARY 에서 읽음 (복제 지연 대비)
+ *   배치/비동기 스레드의 내부 쓰기 , 롤백된 트랜잭션은 고정하지 않음 , 고정 기록은 pinSeconds 후 자동 만료
+ * - onPrimary(...) 안의 읽기는 readOnly 여도 PRIMARY (캐시 적재처럼 복제 지연된 값을 오래 보관하면 안되는 읽기)
+ * - REPLICA 연결 실패시 PRIMARY 로 대체하고 downSeconds 동안 REPLICA 를 건너뜀
+ * - 커넥션은 트랜잭션 속성이 정해진 뒤 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ * */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+	public enum Route { PRIMARY, REPLICA }
+
+	private final DataSource primary;
+	private final DataSource replica;
+	private final long downMillis;  // REPLICA 장애시 건너뛰는 시간
+
+	private final Cache<Long, Boolean> pinned;  // 쓰기 후 PRIMARY 고정 사용자 (userId , 쓰기 후 pinSeconds 만료)
+	private volatile long replicaDownUntil = 0L;
+
+	private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+	public RoutingDataSource(DataSource primary, DataSource replica, long pinSeconds, long downSeconds) {
+		this.primary = primary;
+		this.replica = replica;
+		this.pinned = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofSeconds(pinSeconds))
+				.build();
+		this.downMillis = downSeconds * 1000L;
+		setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		long now = System.currentTimeMillis();
+		Long userId = currentUserId();
+
+		// 쓰기 트랜잭션 → PRIMARY , 요청 스레드의 트랜잭션이면 커밋 후 해당 사용자 고정
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (userId != null) {
+				pinAfterCommit(userId);
+			}
+			return Route.PRIMARY;
+		}
+		// 최근에 쓰기한 사용자 → 자기 글이 바로 보이도록 PRIMARY , PRIMARY 강제 구간
+		if (FORCE_PRIMARY.get() != null || (userId != null && pinned.getIfPresent(userId) != null)) {
+			return Route.PRIMARY;
+		}
+		return now < replicaDownUntil ? Route.PRIMARY : Route.REPLICA;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (determineCurrentLookupKey() != Route.REPLICA) {
+			return primary.getConnection();
+		}
+		try {
+			return replica.getConnection();
+		} catch (SQLException e) {
+			replicaDownUntil = System.currentTimeMillis() + downMillis;  // REPLICA 장애 → 잠시 PRIMARY 사용
+			return primary.getConnection();
+		}
+	}
+
+	/**
+	 * PRIMARY 에서 읽기 - 트랜잭션(커넥션 획득) 을 work 안에서 시작해야 적용됨
+	 * - 라우팅을 쓰지 않는 단일 DataSource 구성에서는 그냥 실행
+	 * */
+	public static <T> T onPrimary(Supplier<T> work) {
+		Boolean previous = FORCE_PRIMARY.get();
+		FORCE_PRIMARY.set(Boolean.TRUE);
+		try {
+			return work.get();
+		} finally {
+			if (previous == null) {
+				FORCE_PRIMARY.remove();
+			}
+		}
+	}
+
+	// 요청 스레드(RequestContextHolder) 에서 열린 트랜잭션만 - 커밋된 경우에만 고정
+	private void pinAfterCommit(Long userId) {
+		if (RequestContextHolder.getRequestAttributes() == null
+				|| !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				pinned.put(userId, Boolean.TRUE);
+			}
+		});
+	}
+
+	// 현재 요청의 로그인 사용자 id (JWT 인증 전이거나 비로그인은 null)
+	private Long currentUserId() {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		if (auth != null && auth.getPrincipal() instanceof CustomOAuth2User user) {
+			return user.getId();
+		}
+		return null;
+	}
+}
@@ -19,8 +19,12 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.thejoa703.oauth2.OAuth2SuccessHandler;
+import com.thejoa703.security.AccessTokenRevocationList;
 import com.thejoa703.security.JwtAuthenticationFilter;
 import com.thejoa703.security.JwtProvider;
+import com.thejoa703.security.RateLimitFilter;
+import com.thejoa703.security.RateLimitProperties;
+import com.thejoa703.security.RateLimiter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +34,7 @@ import lombok.RequiredArgsConstructor;
  * - CSRF/FormLogin/HttpBasic 비활성화
  * - 세션설정을 Stateless로 설정  (Jwt 인증 기반)
  * - Jwt 인증 필터를 UsernamePasswordAuthenticationFilter 추가
+ * - 쓰기 API 요청 제한 필터를 Jwt 인증 필터 다음에 추가
  * - Cors 설정포함 
  * */
 
@@ -40,10 +45,13 @@ public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtProvider);
+        return new JwtAuthenticationFilter(jwtProvider, accessTokenRevocationList);
     }
 
     @Bean
@@ -81,7 +89,9 @@ public class SecurityConfig {
             // Oauth2 로그인은 소셜로그인 전용
             .oauth2Login(oauth2 -> oauth2.successHandler(oAuth2SuccessHandler))
             // JWT 필터 추가
-            .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+            // 쓰기 API 요청 제한 (인증 후 - 사용자별)
+            .addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties), JwtAuthenticationFilter.class);
 
         return http.build();
     }
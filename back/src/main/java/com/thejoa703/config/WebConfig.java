@@ -3,18 +3,29 @@ package com.thejoa703.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import com.thejoa703.metrics.SqlBudgetInterceptor;
+
+import lombok.RequiredArgsConstructor;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+	private final SqlBudgetInterceptor sqlBudgetInterceptor;  // @SqlBudget 요청별 SQL 예산
+	
 	// applcation.yml 에서 업로드된 경로 불러오기
     @Value("${file.upload-dir}")    
     private String uploadDir;
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) { 
         registry.addResourceHandler("/uploads/**")    //   /uploads/** 요청을 
-                .addResourceLocations("file:" + uploadDir + "/");  // 실제 uploads 폴더와 매핑
+                .addResourceLocations("file:" + uploadDir + "/")  // 실제 uploads 폴더와 매핑
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());  // 미리 압축된 .br / .gz 가 있으면 그 파일로 응답
     }
     @Override
     public void addCorsMappings(CorsRegistry registry) { 
@@ -26,4 +37,8 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(false)
                 .maxAge(3600);
     }
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlBudgetInterceptor);
+    }
 }
@@ -1,7 +1,12 @@
 package com.thejoa703.controller;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
@@ -18,13 +23,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.thejoa703.cache.UserProfileCache;
 import com.thejoa703.dto.request.LoginRequest;
 import com.thejoa703.dto.request.UserRequestDto;
 import com.thejoa703.dto.response.UserResponseDto;
+import com.thejoa703.security.AccessTokenRevocationList;
 import com.thejoa703.security.JwtProperties;
 import com.thejoa703.security.JwtProvider;
+import com.thejoa703.security.LoginThrottle;
 import com.thejoa703.security.TokenStore;
 import com.thejoa703.service.AppUserService;
 
@@ -50,6 +59,9 @@ public class AuthController {
     private final TokenStore tokenStore;          // Refresh Token 저장소  (Redis)
     private final JwtProperties props;            // JWT 설정값  ( 만료시간 등 )
     private final AppUserService appUserService;  // 사용자 서비스 계층
+    private final AccessTokenRevocationList revocationList;  // 폐기된 Access Token (로그아웃)
+    private final LoginThrottle loginThrottle;    // 로그인 시도 제한 (IP/이메일)
+    private final AsyncTaskExecutor applicationTaskExecutor;  // 요청(MVC 비동기) 풀 - 토큰 발급/Redis 저장은 BCrypt 풀 밖에서
 
     // ✅ 회원가입
     @Operation(summary = "회원가입")   //Swagger 문서 설명
@@ -59,74 +71,119 @@ public class AuthController {
     		@RequestPart(name="ufile" , required= false) MultipartFile ufile
     		
     	){
-    		return  ResponseEntity.ok(   appUserService.signup(request, ufile)  );
+    		try {
+    			return  ResponseEntity.ok(   appUserService.signup(request, ufile)  );
+    		} catch (RejectedExecutionException e) {  // 해싱 대기열 가득참
+    			return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "1").build();
+    		}
     }
 
     // 로그인
     @Operation(summary = "로그인 (Access Token + Refresh Token 발급)")
     @PostMapping(value = "/login", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Map<String, Object>> login(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> login(
             @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest,  // 클라이언트 IP
             HttpServletResponse response   // 응답객체 (쿠키 설정)
     ) {
-    		// 사용자 인증처리
-        UserResponseDto user = appUserService.login(request);
+        // 시도 제한 (IP + 이메일) - BCrypt 해싱 전에 거절
+        long retryAfterMs = loginThrottle.tryAcquire(httpRequest.getRemoteAddr(), request.getEmail());
+        if (retryAfterMs > 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(429)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMs + 999) / 1000))
+                    .body(Map.of("error", "Too many login attempts")));
+        }
 
-        // Access Token 생성 ( 사용자id + 역할)
-        String accessToken = jwtProvider.createAccessToken(
-                user.getId().toString(),
-                Map.of("role", user.getRole())
-        );
+    		// 사용자 인증처리 (비밀번호 검증은 PasswordHasher 풀에서 - 요청 스레드 반환)
+        CompletableFuture<UserResponseDto> login;
+        try {
+            login = appUserService.loginAsync(request);
+        } catch (RejectedExecutionException e) {  // 해싱 대기열 가득참
+            return CompletableFuture.completedFuture(unavailable());
+        }
 
-        // RfreshToken Token 생성 
-        String refreshToken = jwtProvider.createRefreshToken(user.getId().toString());
+        // 토큰 발급 + Redis 저장은 요청 풀에서 (BCrypt 풀은 해싱만)
+        return login.thenApplyAsync(user -> {
+            // Access Token 생성 ( 사용자id + 역할)
+            String accessToken = jwtProvider.createAccessToken(
+                    user.getId().toString(),
+                    Map.of("role", user.getRole())
+            );
 
-        // Redis Token 저장소에 저장
-        tokenStore.saveRefreshToken(
-                user.getId().toString(),
-                refreshToken,
-                (long) props.getRefreshTokenExpSeconds()
-        );
-        
-        // 쿠키설정
-        ResponseCookie cookie = ResponseCookie.from("refreshToken", refreshToken)
-                .httpOnly(true)  // js 접근불가
-                .secure(true)  // https 전송한 허용
-                .sameSite("Strict")  // csrf 방지
-                .path("/")  // 전체경로 적용
-                .maxAge(props.getRefreshTokenExpSeconds())  // 만료시간 설정
-                .build();
-        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
-        // 사용자 정보반환
-        return ResponseEntity.ok(Map.of(
-                "accessToken", accessToken,
-                "user", user
-        ));
+            // RfreshToken Token 생성 (로그인마다 새 패밀리 = 기기 세션)
+            String familyId = JwtProvider.newTokenId();
+            String tokenId = JwtProvider.newTokenId();
+            String refreshToken = jwtProvider.createRefreshToken(user.getId().toString(), familyId, tokenId);
+
+            // Redis Token 저장소에 저장
+            tokenStore.saveRefreshToken(
+                    user.getId().toString(),
+                    familyId,
+                    tokenId,
+                    (long) props.getRefreshTokenExpSeconds()
+            );
+            
+            // 쿠키설정
+            response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie(refreshToken, props.getRefreshTokenExpSeconds()).toString());
+            // 사용자 정보반환
+            return ResponseEntity.ok(Map.<String, Object>of(
+                    "accessToken", accessToken,
+                    "user", user
+            ));
+        }, applicationTaskExecutor).exceptionally(e -> {
+            if (e.getCause() instanceof RejectedExecutionException) {  // 요청 풀 가득참
+                return unavailable();
+            }
+            throw e instanceof CompletionException ce ? ce : new CompletionException(e);
+        });
+    }
+
+    // 로그인 처리 풀 포화 - 잠시 후 재시도
+    private static ResponseEntity<Map<String, Object>> unavailable() {
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", "Login temporarily unavailable"));
     }
     
     // 현재 로그인한 사용자 정보조회
     @Operation(summary = "현재 로그인한 사용자 정보 조회")
     @GetMapping("/me")
     public ResponseEntity<UserResponseDto> me(HttpServletRequest request,
-                 @CookieValue(name = "refreshToken", required = false) String refreshToken) {
+                 @CookieValue(name = "refreshToken", required = false) String refreshToken,
+                 WebRequest webRequest) {
         try { 
+            String userId = null;
         		// Authorization 헤더에서 Access Token 확인
             String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String token = authHeader.substring(7);  // Bearer  제거
                 var claims = jwtProvider.parse(token).getBody();  // 토큰파싱
-                String userId = claims.getSubject(); // 사용자 id추출
-                UserResponseDto user = appUserService.findById(Long.valueOf(userId)); //사용자조회
-                return ResponseEntity.ok(user);
+                userId = claims.getSubject(); // 사용자 id추출
+                if (revocationList.isRevoked(claims.getId(), userId, claims.getIssuedAt())) {
+                    return ResponseEntity.status(401).build();  // 로그아웃된 토큰
+                }
             } 
             //  Authorization 없으면  RefreshToken 쿠키를 확인
-            if (refreshToken != null) {
+            else if (refreshToken != null) {
                 var claims = jwtProvider.parse(refreshToken).getBody();
-                String userId = claims.getSubject();// 사용자 id추출
-                UserResponseDto user = appUserService.findById(Long.valueOf(userId)); //사용자조회
-                return ResponseEntity.ok(user);
+                userId = claims.getSubject();// 사용자 id추출
+            }
+            if (userId == null) {
+                return ResponseEntity.status(401).build();  // 인증실패 401
             }
-            return ResponseEntity.status(401).build();  // 인증실패 401
+
+            // 프로필 캐시 (Redis) - 수정일시가 같으면 304 (본문 없음)
+            UserProfileCache.Profile profile = appUserService.getProfile(Long.valueOf(userId));
+            long lastModified = profile.updatedAt();
+            String etag = "W/\"u" + userId + "-" + lastModified + "\"";
+            if (webRequest.checkNotModified(etag, lastModified)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .lastModified(lastModified)
+                    .cacheControl(CacheControl.noCache().cachePrivate())  // 사용자별 응답 - 브라우저에서만 재검증
+                    .body(profile.user());
         } catch (Exception e) {
             return ResponseEntity.status(401).build();  // 예외 발생시 인증 실패
         }
@@ -176,24 +233,17 @@ public class AuthController {
             var claims = jwtProvider.parse(accessToken).getBody();
             String userId = claims.getSubject();
 
-            // 해당하는 유저삭제
+            // 탈퇴 대기로 변경 (실제 삭제는 AccountDeletionJob)
             appUserService.deleteById(Long.valueOf(userId));
 
-            // refresh 토큰삭제
-            if (refreshToken != null) {
-                tokenStore.deleteRefreshToken(userId);
-            }
+            // 모든 기기의 refresh 토큰삭제 + 발급된 access 토큰 폐기
+            tokenStore.deleteAllRefreshTokens(userId);
+            revocationList.revokeAll(userId);
+
             // 쿠키에서 삭제
-            ResponseCookie deleteCookie = ResponseCookie.from("refreshToken", "")
-                    .httpOnly(true)
-                    .secure(true)
-                    .sameSite("Strict")
-                    .path("/")
-                    .maxAge(0)
-                    .build();
-            response.addHeader(HttpHeaders.SET_COOKIE, deleteCookie.toString());
-
-            return ResponseEntity.noContent().build();
+            response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie("", 0).toString());
+
+            return ResponseEntity.accepted().build();  // 202 - 삭제는 비동기로 진행
         } catch (Exception e) {
             return ResponseEntity.status(401).build();
         }
@@ -218,15 +268,30 @@ public class AuthController {
         return ResponseEntity.ok(appUserService.existsByNickname(nickname));
     }
 
-    @Operation(summary = "Access Token 재발급")
+    @Operation(summary = "Access Token 재발급 (Refresh Token 회전)")
     @PostMapping("/refresh")
-    public ResponseEntity<Map<String, Object>> refresh(@CookieValue("refreshToken") String refreshToken) {
+    public ResponseEntity<Map<String, Object>> refresh(@CookieValue("refreshToken") String refreshToken,
+                                                       HttpServletResponse response) {
         var claims = jwtProvider.parse(refreshToken).getBody();
         String userId = claims.getSubject();
+        String familyId = claims.get(JwtProvider.FAMILY_CLAIM, String.class);
 
-        String stored = tokenStore.getRefreshToken(userId);
-        if (stored == null || !stored.equals(refreshToken)) {
-            return ResponseEntity.status(401).body(Map.of("error", "Invalid refresh token"));
+        // 확인 + 교체를 Redis 에서 한번에 (Lua)
+        String newTokenId = JwtProvider.newTokenId();
+        TokenStore.Rotation rotation = tokenStore.rotateRefreshToken(
+                userId, familyId, claims.getId(), newTokenId, (long) props.getRefreshTokenExpSeconds());
+
+        switch (rotation) {
+            case GRACE:   // 다른 탭에서 방금 재발급 - 새 refresh 쿠키는 그 응답이 이미 설정 , 여기서는 access 토큰만
+                return ResponseEntity.ok(Map.of("accessToken", jwtProvider.createAccessToken(
+                        userId, Map.of("role", appUserService.findRoleByUserId(Long.valueOf(userId))))));
+            case REUSED:  // 이미 사용된 토큰 - 이 기기 세션 전체 폐기
+                response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie("", 0).toString());
+                return ResponseEntity.status(401).body(Map.of("error", "Refresh token reuse detected"));
+            case UNKNOWN:
+                return ResponseEntity.status(401).body(Map.of("error", "Invalid refresh token"));
+            default:
+                break;
         }
 
         String role = appUserService.findRoleByUserId(Long.valueOf(userId));
@@ -235,28 +300,61 @@ public class AuthController {
                 userId,
                 Map.of("role", role)
         );
+        String newRefreshToken = jwtProvider.createRefreshToken(userId, familyId, newTokenId);
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie(newRefreshToken, props.getRefreshTokenExpSeconds()).toString());
 
         return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
     }
-    // ✅ 로그아웃
+    // ✅ 로그아웃 (현재 기기)
     @Operation(summary = "로그아웃")
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(@CookieValue("refreshToken") String refreshToken,
+                                       HttpServletRequest request,
                                        HttpServletResponse response) {
         var claims = jwtProvider.parse(refreshToken).getBody();
         String userId = claims.getSubject();
 
-        tokenStore.deleteRefreshToken(userId);
+        tokenStore.deleteRefreshToken(userId, claims.get(JwtProvider.FAMILY_CLAIM, String.class));
+
+        // 현재 Access Token 도 만료 전에 폐기
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                var accessClaims = jwtProvider.parse(authHeader.substring(7)).getBody();
+                revocationList.revoke(accessClaims.getId(), accessClaims.getExpiration());
+            } catch (Exception e) {
+                // 이미 만료/잘못된 토큰은 폐기할 필요 없음
+            }
+        }
  
-        ResponseCookie deleteCookie = ResponseCookie.from("refreshToken", "")
-                .httpOnly(true)
-                .secure(true)
-                .sameSite("Strict")
-                .path("/")
-                .maxAge(0)
-                .build();
-        response.addHeader(HttpHeaders.SET_COOKIE, deleteCookie.toString());
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie("", 0).toString());
 
         return ResponseEntity.noContent().build();
     }
+    // ✅ 모든 기기에서 로그아웃
+    @Operation(summary = "모든 기기에서 로그아웃")
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@CookieValue("refreshToken") String refreshToken,
+                                          HttpServletResponse response) {
+        var claims = jwtProvider.parse(refreshToken).getBody();
+        String userId = claims.getSubject();
+
+        tokenStore.deleteAllRefreshTokens(userId);
+        revocationList.revokeAll(userId);  // 모든 기기의 Access Token 즉시 폐기
+
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie("", 0).toString());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    // Refresh Token 쿠키 (maxAge 0 이면 삭제)
+    private ResponseCookie refreshCookie(String refreshToken, long maxAge) {
+        return ResponseCookie.from("refreshToken", refreshToken)
+                .httpOnly(true)  // js 접근불가
+                .secure(true)  // https 전송한 허용
+                .sameSite("Strict")  // csrf 방지
+                .path("/")  // 전체경로 적용
+                .maxAge(maxAge)  // 만료시간 설정
+                .build();
+    }
 }
@@ -7,7 +7,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*; // ✅ import 정리: 모든 mapping 어노테이션 포함
 
 import com.thejoa703.dto.request.CommentRequestDto;
+import com.thejoa703.dto.response.CommentPageResponseDto;
 import com.thejoa703.dto.response.CommentResponseDto;
+import com.thejoa703.metrics.SqlBudget;
 import com.thejoa703.service.AuthUserJwtService;
 import com.thejoa703.service.CommentService;
 
@@ -44,6 +46,32 @@ public class CommentController {
         return ResponseEntity.ok(commentService.getCommentsByPost(postId));
     }
 
+    @Operation(summary = "게시글의 댓글 커서 페이징 조회 (공개)")
+    @SqlBudget(2)  // 프로젝션 1회
+    @GetMapping("/post/{postId}/paged")
+    public ResponseEntity<CommentPageResponseDto> getCommentsPage(
+            @Parameter(description = "조회할 게시글 ID") 
+            @PathVariable("postId") Long postId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsPage(postId, cursor, size));
+    }
+
+    @Operation(summary = "답글 더보기 - 댓글 아래 스레드 커서 페이징 조회 (공개)")
+    @SqlBudget(3)  // 스레드 위치 + 답글 프로젝션
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CommentPageResponseDto> getReplies(
+            @Parameter(description = "답글을 조회할 댓글 ID") 
+            @PathVariable("commentId") Long commentId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getReplies(commentId, cursor, size));
+    }
+
     @Operation(summary = "댓글 수정 (JWT 인증 필요)")
     @PatchMapping("/{commentId}")
     public ResponseEntity<CommentResponseDto> updateComment(
@@ -12,6 +12,8 @@ import com.thejoa703.dto.request.BlockRequestDto;
 import com.thejoa703.dto.request.FollowRequestDto;
 import com.thejoa703.dto.response.BlockResponseDto;
 import com.thejoa703.dto.response.FollowResponseDto;
+import com.thejoa703.dto.response.FollowSuggestionResponseDto;
+import com.thejoa703.metrics.SqlBudget;
 import com.thejoa703.service.AuthUserJwtService;
 import com.thejoa703.service.FollowService;
 
@@ -41,18 +43,28 @@ public class FollowController {
         }
     }
 
+    @SqlBudget(2)  // @EntityGraph 조인 1회
     @GetMapping("/me/followings")
     public ResponseEntity<List<FollowResponseDto>> getMyFollowings(Authentication authentication) {
         Long followerId = authUserJwtService.getCurrentUserId(authentication);
         return ResponseEntity.ok(followService.getFollowings(followerId));
     }
 
+    @SqlBudget(2)
     @GetMapping("/me/followers")
     public ResponseEntity<List<FollowResponseDto>> getMyFollowers(Authentication authentication) {
         Long followeeId = authUserJwtService.getCurrentUserId(authentication);
         return ResponseEntity.ok(followService.getFollowers(followeeId));
     }
 
+    @SqlBudget(1)  // Redis 추천 + 사용자 일괄 조회
+    @GetMapping("/me/suggestions")
+    public ResponseEntity<List<FollowSuggestionResponseDto>> getMySuggestions(Authentication authentication,
+                                                                              @RequestParam(name = "size", defaultValue = "10") int size) {
+        Long userId = authUserJwtService.getCurrentUserId(authentication);
+        return ResponseEntity.ok(followService.getSuggestions(userId, size));
+    }
+
     @GetMapping("/me/followings/count")
     public ResponseEntity<Long> countMyFollowings(Authentication authentication) {
         Long followerId = authUserJwtService.getCurrentUserId(authentication);
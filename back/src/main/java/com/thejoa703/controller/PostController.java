@@ -2,6 +2,8 @@ package com.thejoa703.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication; // ✅ JWT 인증된 사용자 정보 접근
@@ -15,16 +17,22 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile; // ✅ 파일 업로드 처리
 
+import com.thejoa703.cache.PostCache;
 import com.thejoa703.dto.request.PostRequestDto;
 import com.thejoa703.dto.response.PostResponseDto;
+import com.thejoa703.metrics.SqlBudget;
+import com.thejoa703.oauth2.CustomOAuth2User;
 import com.thejoa703.service.AuthUserJwtService;
 import com.thejoa703.service.PostService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
  
 @Tag(name = "Post", description = "게시글 API")
@@ -43,14 +51,39 @@ public class PostController {
     }
  
     @Operation(summary = "게시글 단건 조회 (공개)")
+    @SqlBudget(10)  // 캐시 miss : 게시글 + 작성자/이미지/해시태그/좋아요/댓글 지연로딩 + 리트윗 수 + 저장된 조회수 , 조회수 키 생성시 +1 (hit 이면 0~1)
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponseDto> getPost(
-            @PathVariable(name = "postId") Long postId
+            @PathVariable(name = "postId") Long postId,
+            Authentication authentication,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(postService.getPost(postId));
+        // If-None-Match 가 같으면 304 (본문 없음) - ETag 는 캐시된 본문 해시
+        PostCache.Entry cached = postService.getCachedPost(postId);
+        postService.recordView(postId, viewer(authentication, request));  // 304 도 조회
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);  // 304 에도 (캐시가 Accept 별 표현을 재검증하도록)
+        if (webRequest.checkNotModified(cached.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(cached.etag())
+                .cacheControl(CacheControl.noCache())  // 매번 재검증
+                .varyBy(HttpHeaders.ACCEPT)            // JSON / CBOR / Smile 표현이 따로 캐시되도록
+                .body(postService.withViews(cached.post()));  // 조회수는 Redis 최신값 (ETag 에는 미포함)
     }
     
+    // 순 방문자 구분 - 로그인 사용자는 ID , 비로그인은 IP
+    private String viewer(Authentication authentication, HttpServletRequest request) {
+        if (authentication != null && authentication.getPrincipal() instanceof CustomOAuth2User user) {
+            return "u:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
     @Operation(summary = "전체 게시글 페이징 조회 (공개)")
+    @SqlBudget(2)  // MyBatis 피드 1회 (최근 파티션에서 모자라면 이전 파티션에서 모자란 만큼 1회 더)
     @GetMapping("/paged")
     public ResponseEntity<List<PostResponseDto>> getAllPostsPaged(
             @RequestParam(name = "page" , defaultValue = "1") int page,
@@ -58,7 +91,17 @@ public class PostController {
         return ResponseEntity.ok(postService.getAllPostsPaged(page, size));
     }
 
+    @Operation(summary = "인기 게시글 페이징 조회 (공개) - 좋아요/댓글/리트윗 점수 , 시간이 지나면 감쇠")
+    @SqlBudget(2)  // Redis 순위 + MyBatis 조회 1회 (순위가 비면 최신순 피드)
+    @GetMapping("/hot")
+    public ResponseEntity<List<PostResponseDto>> getHotPostsPaged(
+            @RequestParam(name = "page", defaultValue = "1") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getHotPostsPaged(page, size));
+    }
+
     @Operation(summary = "좋아요한 게시글 페이징 조회 (JWT 인증 필요)")
+    @SqlBudget(2)
     @GetMapping("/liked")
     public ResponseEntity<List<PostResponseDto>> getLikedPostsPaged(
             Authentication authentication,
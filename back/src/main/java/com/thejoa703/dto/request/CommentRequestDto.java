@@ -21,4 +21,11 @@ public class CommentRequestDto {
 
     @NotBlank
     private String content;
+
+    private Long parentId;   // 답글이면 부모 댓글 ID (일반 댓글은 null)
+
+    public CommentRequestDto(Long postId, String content) {
+        this.postId = postId;
+        this.content = content;
+    }
 }
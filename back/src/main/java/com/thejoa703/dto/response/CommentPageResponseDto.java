@@ -0,0 +1,18 @@
+package com.thejoa703.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 댓글 커서 페이지 응답 DTO
+ * - nextCursor 를 다음 요청의 cursor 로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+public class CommentPageResponseDto {
+    private List<CommentResponseDto> comments;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -12,4 +12,7 @@ public class CommentResponseDto {
     private String content;
     private String authorNickname;
     private LocalDateTime createdAt;
+    private Long parentId;      // 답글이면 부모 댓글 ID
+    private int replyCount;     // 직접 달린 답글 수
+    private String path;        // 스레드 정렬키 (답글 더보기 커서로 사용)
 }
@@ -0,0 +1,26 @@
+package com.thejoa703.dto.response;
+
+import com.thejoa703.entity.AppUser;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 팔로우 추천 응답
+ * - mutualCount : 내가 팔로우하는 사람 중 이 사용자를 팔로우하는 사람 수
+ */
+@Getter @NoArgsConstructor
+public class FollowSuggestionResponseDto {
+    private Long userId;
+    private String nickname;
+    private String ufile;
+    private int mutualCount;
+
+    public static FollowSuggestionResponseDto of(AppUser user, int mutualCount) {
+        FollowSuggestionResponseDto dto = new FollowSuggestionResponseDto();
+        dto.userId = user.getId();
+        dto.nickname = user.getNickname();
+        dto.ufile = user.getUfile();
+        dto.mutualCount = mutualCount;
+        return dto;
+    }
+}
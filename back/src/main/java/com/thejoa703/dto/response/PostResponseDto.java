@@ -16,6 +16,7 @@ import lombok.Setter;
  * 게시글 응답 DTO
  * - 작성자 ID(authorId) 포함
  * - 이미지, 해시태그, 좋아요/댓글 수, 작성일시, 리트윗 수 포함
+ * - 조회수 / 순 방문자 : POST_VIEWS 값에 Redis 최신값을 덮어씀 (PostService.withViews)
  * - ✅ soft delete 상태(deleted) 포함하여 테스트/관리 용이성 확보
  *
  * 중요:
@@ -36,6 +37,8 @@ public class PostResponseDto {
     private LocalDateTime createdAt;  // 작성일시
     private long retweetCount;        // 리트윗 수
     private boolean deleted;          // ✅ soft delete 상태
+    private long viewCount;           // 조회수
+    private long uniqueViewers;       // 순 방문자 (근사값)
 
     /**
      * ✅ 엔티티 → DTO 변환
@@ -81,6 +84,28 @@ public class PostResponseDto {
         return dto;
     }
 
+    /**
+     * 조회수만 바꾼 복사본 (캐시된 DTO 는 공유 객체라 수정하지 않음)
+     * - 목록은 그대로 공유
+     */
+    public PostResponseDto withViews(long viewCount, long uniqueViewers) {
+        PostResponseDto dto = new PostResponseDto();
+        dto.setId(id);
+        dto.setContent(content);
+        dto.setAuthorNickname(authorNickname);
+        dto.setAuthorId(authorId);
+        dto.setImageUrls(imageUrls);
+        dto.setHashtags(hashtags);
+        dto.setLikeCount(likeCount);
+        dto.setCommentCount(commentCount);
+        dto.setCreatedAt(createdAt);
+        dto.setRetweetCount(retweetCount);
+        dto.setDeleted(deleted);
+        dto.setViewCount(viewCount);
+        dto.setUniqueViewers(uniqueViewers);
+        return dto;
+    }
+
     /**
      * ✅ 래퍼 메서드 (서비스 코드에서 호출 용이)
      */
@@ -0,0 +1,60 @@
+package com.thejoa703.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/***
+ * 회원 탈퇴 진행상황 (AccountDeletionJob)
+ * - 탈퇴 요청시 PENDING 으로 생성 , 사용자 행이 지워진 뒤에도 남음 (FK 없음)
+ */
+@Entity
+@Table(name = "ACCOUNT_DELETION",
+	indexes = @Index(name = "IDX_ACCOUNT_DELETION_STATUS", columnList = "STATUS, UPDATED_AT")  // 대기중 작업 조회
+)
+@Getter  @Setter  @NoArgsConstructor
+public class AccountDeletion {
+
+	public enum Status { PENDING, RUNNING, DONE, FAILED }
+
+	@Id
+	@Column(name = "APP_USER_ID")
+	private Long userId;  // 탈퇴하는 사용자 (PK)
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private Status status = Status.PENDING;
+
+	@Column(length = 50)
+	private String step;  // 진행중인 단계 (AccountDeletionJob.Step)
+
+	@Column(name = "DELETED_ROWS", nullable = false)
+	private long deletedRows;  // 지금까지 처리한 행 수 (숨긴 게시글 포함)
+
+	@Column(name = "ATTEMPTS", nullable = false)
+	private int attempts;  // 실행 횟수 (실패 후 재시도 포함)
+
+	@Column(length = 500)
+	private String error;  // 마지막 실패 원인
+
+	@Column(nullable = false, name = "REQUESTED_AT")
+	private LocalDateTime requestedAt;
+
+	@Column(nullable = false, name = "UPDATED_AT")
+	private LocalDateTime updatedAt;
+
+	public AccountDeletion(Long userId) {
+		this.userId = userId;
+		this.requestedAt = LocalDateTime.now();
+		this.updatedAt = this.requestedAt;
+	}
+}
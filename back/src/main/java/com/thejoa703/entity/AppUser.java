@@ -29,10 +29,16 @@ import lombok.Setter;
  */
 @Entity   //JPA 엔티티 선언
 @Table( name= "APPUSER" ,
-	uniqueConstraints = @UniqueConstraint(
-		name="UK_APPUSER_EMAIL_PROVIDER" ,	
-		columnNames = {"EMAIL" , "PROVIDER"}
-	)
+	uniqueConstraints = {
+		@UniqueConstraint(
+			name="UK_APPUSER_EMAIL_PROVIDER" ,	
+			columnNames = {"EMAIL" , "PROVIDER"}
+		),
+		@UniqueConstraint(
+			name="UK_APPUSER_NICKNAME" ,  // 닉네임 중복 방지 + 중복확인 인덱스 (기존 DB 는 ConstraintSchemaJob 이 중복 정리 후 추가)
+			columnNames = {"NICKNAME"}
+		)
+	}
 )
 @Getter  @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class AppUser {
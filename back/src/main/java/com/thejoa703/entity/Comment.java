@@ -5,9 +5,12 @@ import java.time.LocalDateTime;
 import jakarta.persistence.Column;
 // JPA관련 어노테이션
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -15,6 +18,9 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -23,7 +29,12 @@ import lombok.Setter;
  * 댓글 엔티티
  */
 @Entity   //JPA 엔티티 선언
-@Table(name= "COMMENTS")
+@Table(name= "COMMENTS",
+	indexes = {
+		@Index(name = "IDX_COMMENTS_POST_DEL_CREATED", columnList = "POST_ID, DELETED, CREATED_AT"),  // 게시글별 댓글 목록/커서 페이징
+		@Index(name = "IDX_COMMENTS_ROOT_PATH", columnList = "ROOT_ID, PATH")                        // 답글 스레드 range scan
+	}
+)
 @Getter  @Setter 
 public class Comment {
 	
@@ -58,13 +69,31 @@ public class Comment {
 	}
 	 
 	@ManyToOne
-	@JoinColumn( name="APP_USER_ID" , nullable = false)
+	@JoinColumn( name="APP_USER_ID" , nullable = false , foreignKey = @ForeignKey(name = "FK_COMMENTS_USER"))
 	private AppUser user; //작성자
 	
 	@ManyToOne
-	@JoinColumn( name="POST_ID" , nullable = false)
+	@JoinColumn( name="POST_ID" , nullable = false , foreignKey = @ForeignKey(name = "FK_COMMENTS_POST"))
 	private Post post;   // 어떤 게시글에 달린 댓글
 	
+	////// 답글 스레드 (materialized path)
+	//  - 최상위 댓글 : parent, rootId, path 모두 null
+	//  - 답글       : rootId = 최상위 댓글 ID , path = 부모 path + "." + 부모의 답글순번(6자리)  (최상위 직속 답글은 순번만)
+	//  - 한 스레드는 ROOT_ID = ? ORDER BY PATH 로 한번에 조회 (깊이 우선 순서)
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn( name="PARENT_ID" )
+	@OnDelete(action = OnDeleteAction.SET_NULL)  // 부모 댓글 행 삭제시 답글은 유지
+	private Comment parent;  // 부모 댓글
+	
+	@Column(name="ROOT_ID")
+	private Long rootId;     // 스레드 최상위 댓글 ID
+	
+	@Column(length = 700)
+	private String path;     // 스레드내 정렬키  000001.000003 ...
+	
+	@Column(name="REPLY_COUNT" , nullable = false , columnDefinition = "NUMBER(10) DEFAULT 0")
+	private int replyCount = 0;  // 직접 달린 답글 수 (비정규화, 답글 순번으로도 사용하므로 soft delete 해도 줄이지 않음)
+	
 }
 
 
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -45,11 +46,11 @@ public class Follow {
     } 
     
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name="FOLLOWER_ID" ,nullable = false)
+    @JoinColumn(name="FOLLOWER_ID" ,nullable = false , foreignKey = @ForeignKey(name = "FK_FOLLOWS_FOLLOWER"))
     private AppUser follower;
     
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name="FOLLOWEE_ID" ,nullable = false)
+    @JoinColumn(name="FOLLOWEE_ID" ,nullable = false , foreignKey = @ForeignKey(name = "FK_FOLLOWS_FOLLOWEE"))
     private AppUser followee;
 }
 
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -33,11 +34,11 @@ public class PostLike {
 
 		 
 	@ManyToOne   
-	@JoinColumn(name="APP_USER_ID" , nullable = false)  // APP_USER_ID라는 외래키(FK)  
+	@JoinColumn(name="APP_USER_ID" , nullable = false , foreignKey = @ForeignKey(name = "FK_POST_LIKES_USER"))  // APP_USER_ID라는 외래키(FK)  
 	private AppUser user;  // 좋아요 누른 사람
 	
 	@ManyToOne  
-	@JoinColumn(name="POST_ID" , nullable = false)  // POST_ID라는 외래키(FK)  
+	@JoinColumn(name="POST_ID" , nullable = false , foreignKey = @ForeignKey(name = "FK_POST_LIKES_POST"))  // POST_ID라는 외래키(FK)  
 	private Post post; // 좋아요 대상 게시글
 	
 	@PrePersist
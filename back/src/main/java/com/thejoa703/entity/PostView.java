@@ -0,0 +1,34 @@
+package com.thejoa703.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/***
+ * 게시글 조회수 (PostViewFlushJob 이 Redis 에서 주기적으로 옮김)
+ * - POSTS 와 따로 - 조회수 반영이 게시글 행을 잠그지 않도록 (FK 없음 , 보관/탈퇴 작업이 함께 삭제)
+ */
+@Entity
+@Table(name = "POST_VIEWS")
+@Getter  @Setter  @NoArgsConstructor
+public class PostView {
+
+	@Id
+	@Column(name = "POST_ID")
+	private Long postId;  // 게시글 (PK)
+
+	@Column(name = "VIEW_COUNT", nullable = false)
+	private long viewCount;  // 전체 조회수
+
+	@Column(name = "UNIQUE_VIEWERS", nullable = false)
+	private long uniqueViewers;  // 순 방문자 (HyperLogLog 근사값)
+
+	@Column(nullable = false, name = "UPDATED_AT")
+	private LocalDateTime updatedAt;  // 마지막 flush
+}
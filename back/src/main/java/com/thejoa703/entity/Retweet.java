@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -36,11 +37,11 @@ public class Retweet {
 
 		 
 	@ManyToOne   
-	@JoinColumn(name="APP_USER_ID" , nullable = false)  // APP_USER_ID라는 외래키(FK)  
+	@JoinColumn(name="APP_USER_ID" , nullable = false , foreignKey = @ForeignKey(name = "FK_RETWEETS_USER"))  // APP_USER_ID라는 외래키(FK)  
 	private AppUser user;  // 리트윗한 사람
 	
 	@ManyToOne  
-	@JoinColumn(name="ORIGINAL_POST_ID" , nullable = false)  // ORIGINAL_POST_ID라는 외래키(FK)  
+	@JoinColumn(name="ORIGINAL_POST_ID" , nullable = false , foreignKey = @ForeignKey(name = "FK_RETWEETS_POST"))  // ORIGINAL_POST_ID라는 외래키(FK)  
 	private Post originalPost; //원본 게시글
 	
 	@PrePersist
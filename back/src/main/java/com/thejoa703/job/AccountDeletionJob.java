@@ -0,0 +1,153 @@
+package com.thejoa703.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thejoa703.cache.HotFeed;
+import com.thejoa703.cache.PostCache;
+import com.thejoa703.cache.PostViewCounter;
+import com.thejoa703.cache.UserProfileCache;
+import com.thejoa703.entity.AccountDeletion;
+import com.thejoa703.mapper.AccountDeletionMapper;
+import com.thejoa703.repository.AccountDeletionRepository;
+import com.thejoa703.repository.PostRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 탈퇴 처리 (비동기)
+ * - AppUserService.deleteById 는 사용자를 "탈퇴 대기" (DELETED=1) 로 바꾸고 ACCOUNT_DELETION 에 PENDING 만 남김
+ * - 이 작업이 주기적으로 가져가서 STEPS 순서 (FK 자식 먼저) 로 chunk-size 씩 DELETE , chunk 마다 커밋 + 진행상황 기록
+ * - 모든 단계가 다시 실행해도 안전 → 노드가 죽어 멈춘 작업 / 실패한 작업은 retry-after-seconds 후 처음부터 다시
+ * - app.account-deletion.rows{step} 카운터
+ * */
+@Slf4j
+@Component
+public class AccountDeletionJob {
+
+	/** 삭제 단계 - 이름은 ACCOUNT_DELETION.STEP 에 기록 */
+	private record Step(String name, BiFunction<Long, Integer, Integer> run) {}
+
+	private final AccountDeletionRepository deletionRepository;
+	private final PostRepository postRepository;
+	private final PostCache postCache;
+	private final PostViewCounter viewCounter;
+	private final HotFeed hotFeed;
+	private final UserProfileCache profileCache;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate chunkTx;
+	private final List<Step> steps;
+	private final int chunkSize;
+	private final long retryAfterSeconds;
+	private final int maxAttempts;
+
+	public AccountDeletionJob(AccountDeletionMapper deletionMapper,
+							  AccountDeletionRepository deletionRepository,
+							  PostRepository postRepository,
+							  PostCache postCache,
+							  PostViewCounter viewCounter,
+							  HotFeed hotFeed,
+							  UserProfileCache profileCache,
+							  MeterRegistry meterRegistry,
+							  PlatformTransactionManager transactionManager,
+							  @Value("${app.account-deletion.chunk-size:1000}") int chunkSize,
+							  @Value("${app.account-deletion.retry-after-seconds:300}") long retryAfterSeconds,
+							  @Value("${app.account-deletion.max-attempts:5}") int maxAttempts) {
+		this.deletionRepository = deletionRepository;
+		this.postRepository = postRepository;
+		this.postCache = postCache;
+		this.viewCounter = viewCounter;
+		this.hotFeed = hotFeed;
+		this.profileCache = profileCache;
+		this.meterRegistry = meterRegistry;
+		this.chunkTx = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.maxAttempts = maxAttempts;
+		this.steps = List.of(
+				new Step("HIDE_POSTS", deletionMapper::hidePosts),
+				new Step("POST_LIKES", deletionMapper::deleteLikesByUser),
+				new Step("POST_LIKES_ON_POSTS", deletionMapper::deleteLikesOnPosts),
+				new Step("RETWEETS", deletionMapper::deleteRetweetsByUser),
+				new Step("RETWEETS_OF_POSTS", deletionMapper::deleteRetweetsOfPosts),
+				new Step("FOLLOWINGS", deletionMapper::deleteFollowings),
+				new Step("FOLLOWERS", deletionMapper::deleteFollowers),
+				new Step("COMMENTS_ON_POSTS", deletionMapper::deleteCommentsOnPosts),
+				new Step("REROOT_REPLIES", deletionMapper::rerootReplies),
+				new Step("REPARENT_REPLIES", deletionMapper::reparentReplies),
+				new Step("COMMENTS", deletionMapper::deleteCommentsByUser),
+				new Step("IMAGES", deletionMapper::deleteImages),
+				new Step("POST_HASHTAG", deletionMapper::deletePostHashtags),
+				new Step("POST_VIEWS", deletionMapper::deletePostViews),
+				new Step("POSTS", deletionMapper::deletePosts),
+				new Step("APPUSER", deletionMapper::deleteUser));
+	}
+
+	@Scheduled(fixedDelayString = "${app.account-deletion.poll-ms:10000}", initialDelayString = "${app.account-deletion.poll-ms:10000}")
+	public void poll() {
+		LocalDateTime retryBefore = LocalDateTime.now().minusSeconds(retryAfterSeconds);
+		for (Long userId : deletionRepository.findRunnable(retryBefore, maxAttempts, PageRequest.of(0, 10))) {
+			process(userId);
+		}
+	}
+
+	/**
+	 * 한 사용자 탈퇴 처리 - 다른 노드가 먼저 가져갔으면 false
+	 * - 호출한 쪽에 트랜잭션이 있으면 chunk 도 거기에 참여 (테스트)
+	 * */
+	public boolean process(Long userId) {
+		LocalDateTime retryBefore = LocalDateTime.now().minusSeconds(retryAfterSeconds);
+		Integer claimed = chunkTx.execute(status -> deletionRepository.claim(userId, retryBefore, maxAttempts, LocalDateTime.now()));
+		if (claimed == null || claimed == 0) {
+			return false;
+		}
+		try {
+			long total = 0;
+			for (Step step : steps) {
+				total += runStep(userId, step);
+				if ("HIDE_POSTS".equals(step.name())) {
+					List<Long> hidden = postRepository.findIdsByUserId(userId);
+					hidden.forEach(postCache::evict);  // 숨긴 글 캐시
+					hotFeed.remove(hidden);            // 인기 피드 순위
+					viewCounter.remove(hidden);        // 조회수 , 순 방문자 키
+				}
+			}
+			profileCache.evict(userId);
+			chunkTx.executeWithoutResult(status -> deletionRepository.finish(userId, AccountDeletion.Status.DONE, null, LocalDateTime.now()));
+			log.info("account deleted : userId={} rows={}", userId, total);
+			return true;
+		} catch (RuntimeException e) {
+			log.warn("account deletion failed : userId={} {}", userId, e.getMessage());
+			String error = String.valueOf(e.getMessage());
+			chunkTx.executeWithoutResult(status -> deletionRepository.finish(userId, AccountDeletion.Status.FAILED,
+					error.length() > 500 ? error.substring(0, 500) : error, LocalDateTime.now()));
+			return false;
+		}
+	}
+
+	// chunk-size 보다 적게 처리하면 이 단계 끝
+	private long runStep(Long userId, Step step) {
+		long total = 0;
+		while (true) {
+			Integer rows = chunkTx.execute(status -> {
+				int n = step.run().apply(userId, chunkSize);
+				deletionRepository.progress(userId, step.name(), n, LocalDateTime.now());
+				return n;
+			});
+			total += rows;
+			meterRegistry.counter("app.account-deletion.rows", "step", step.name()).increment(rows);
+			if (rows < chunkSize) {
+				return total;
+			}
+		}
+	}
+}
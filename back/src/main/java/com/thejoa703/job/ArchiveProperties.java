@@ -0,0 +1,19 @@
+package com.thejoa703.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+// 삭제된 게시글 / 댓글 보관 작업 설정
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.archive")  // application.yml  app.archive.* 연결
+public class ArchiveProperties {
+    private boolean enabled = true;
+    private String cron = "0 30 4 * * *";  // 매일 04:30
+    private int retentionDays = 30;        // 삭제(UPDATED_AT) 후 이 기간이 지나면 보관 테이블로
+    private int batchSize = 500;           // 한 트랜잭션(커밋)에 옮기는 게시글 / 스레드 수 (IN 목록 1000 제한 이하)
+    private int maxBatches = 200;          // 한번 실행에 최대 배치 수 (남은 것은 다음 실행)
+    private long pauseMs = 200;            // 배치 사이 대기 (redo / 복제 지연 완화)
+}
@@ -0,0 +1,111 @@
+package com.thejoa703.job;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.collect.Lists;
+import com.thejoa703.cache.UserProfileCache;
+import com.thejoa703.mapper.ConstraintMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 제약조건 이름 맞추기 (시작시 한번)
+ * - 쓰기 경로는 제약조건 이름으로 "없음/중복" 을 판별 (ConstraintViolations)
+ * - ddl-auto: update 는 이미 있는 외래키를 다시 만들지 않음 → 예전에 만든 DB 는 Hibernate 가 붙인 이름 (FK1abc...) 그대로
+ *   같은 컬럼 / 참조 테이블의 외래키를 엔티티의 이름 (FK_*) 으로 RENAME (메타데이터만 바뀜 , 행은 안 읽음)
+ * - UK_APPUSER_NICKNAME : ddl-auto 는 중복 닉네임이 있으면 조용히 실패
+ *   → 두번째 이후 사용자 닉네임 뒤에 _<ID> 를 붙여 정리한 뒤 추가 (실패하면 ERROR 로그 - 닉네임 중복 가입 가능)
+ * - 이미 맞으면 건너뜀 (다시 실행해도 안전) , 여러 노드가 동시에 하면 늦은 쪽은 실패 로그만
+ * */
+@Slf4j
+@Component
+public class ConstraintSchemaJob {
+
+	/**
+	 * 엔티티가 기대하는 외래키
+	 * */
+	record ForeignKey(String table, String column, String refTable, String name) {}
+
+	static final List<ForeignKey> FOREIGN_KEYS = List.of(
+			new ForeignKey("FOLLOWS",    "FOLLOWER_ID",      "APPUSER", "FK_FOLLOWS_FOLLOWER"),
+			new ForeignKey("FOLLOWS",    "FOLLOWEE_ID",      "APPUSER", "FK_FOLLOWS_FOLLOWEE"),
+			new ForeignKey("POST_LIKES", "APP_USER_ID",      "APPUSER", "FK_POST_LIKES_USER"),
+			new ForeignKey("POST_LIKES", "POST_ID",          "POSTS",   "FK_POST_LIKES_POST"),
+			new ForeignKey("RETWEETS",   "APP_USER_ID",      "APPUSER", "FK_RETWEETS_USER"),
+			new ForeignKey("RETWEETS",   "ORIGINAL_POST_ID", "POSTS",   "FK_RETWEETS_POST"),
+			new ForeignKey("COMMENTS",   "APP_USER_ID",      "APPUSER", "FK_COMMENTS_USER"),
+			new ForeignKey("COMMENTS",   "POST_ID",          "POSTS",   "FK_COMMENTS_POST"));
+
+	static final String NICKNAME_CONSTRAINT = "UK_APPUSER_NICKNAME";
+
+	private final ConstraintMapper constraintMapper;
+	private final UserProfileCache profileCache;
+	private final TransactionTemplate tx;
+
+	public ConstraintSchemaJob(ConstraintMapper constraintMapper,
+							   UserProfileCache profileCache,
+							   PlatformTransactionManager transactionManager) {
+		this.constraintMapper = constraintMapper;
+		this.profileCache = profileCache;
+		this.tx = new TransactionTemplate(transactionManager);
+	}
+
+	// 요청 처리 전에 가능한 빨리 (다른 시작 작업보다 먼저)
+	@Order(-10)
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureConstraints() {
+		for (ForeignKey fk : FOREIGN_KEYS) {
+			renameForeignKey(fk);
+		}
+		ensureNicknameUnique();
+	}
+
+	private void ensureNicknameUnique() {
+		if (constraintMapper.countConstraints("APPUSER", NICKNAME_CONSTRAINT) > 0) {
+			return;
+		}
+		try {
+			List<String> found = constraintMapper.findUniqueConstraints("APPUSER", "NICKNAME");
+			if (!found.isEmpty()) {
+				constraintMapper.renameConstraint("APPUSER", found.get(0), NICKNAME_CONSTRAINT);
+				log.info("constraint renamed : APPUSER.{} → {}", found.get(0), NICKNAME_CONSTRAINT);
+				return;
+			}
+			List<Long> duplicates = constraintMapper.findDuplicateNicknameUsers();
+			if (!duplicates.isEmpty()) {
+				tx.executeWithoutResult(status -> Lists.partition(duplicates, 1000).forEach(constraintMapper::suffixNicknames));
+				duplicates.forEach(profileCache::evict);
+				log.warn("duplicate nicknames renamed : {} users {}", duplicates.size(), duplicates);
+			}
+			constraintMapper.addUniqueConstraint("APPUSER", NICKNAME_CONSTRAINT, "NICKNAME");
+			log.info("constraint created : {}", NICKNAME_CONSTRAINT);
+		} catch (DataAccessException e) {
+			log.error("constraint {} missing - duplicate nicknames are not prevented : {}", NICKNAME_CONSTRAINT, e.getMessage());
+		}
+	}
+
+	private void renameForeignKey(ForeignKey fk) {
+		if (constraintMapper.countConstraints(fk.table(), fk.name()) > 0) {
+			return;
+		}
+		List<String> found = constraintMapper.findForeignKeys(fk.table(), fk.column(), fk.refTable());
+		if (found.isEmpty()) {
+			log.warn("foreign key {} missing : {}.{} → {} (없음/중복 판별 안됨)", fk.name(), fk.table(), fk.column(), fk.refTable());
+			return;
+		}
+		try {
+			constraintMapper.renameConstraint(fk.table(), found.get(0), fk.name());
+			log.info("constraint renamed : {}.{} → {}", fk.table(), found.get(0), fk.name());
+		} catch (DataAccessException e) {
+			log.warn("constraint {} not renamed : {}", fk.name(), e.getMessage());
+		}
+	}
+}
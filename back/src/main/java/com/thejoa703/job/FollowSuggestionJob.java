@@ -0,0 +1,246 @@
+package com.thejoa703.job;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thejoa703.cache.FollowSuggestions;
+import com.thejoa703.cache.FollowSuggestions.Suggestion;
+import com.thejoa703.mapper.FollowGraphMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMaps;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 팔로우 추천 전체 갱신 (친구의 친구)
+ * - FOLLOWS 를 한번 읽어 메모리 그래프 (사용자 → 정렬된 팔로잉 long[]) 로 만들고 SQL self-join 없이 계산
+ * - 사용자 u : u 가 팔로우하는 f 마다 f 의 팔로잉 g 를 Long2IntOpenHashMap 으로 셈 (u 자신 , 이미 팔로우하는 사람 제외)
+ *   팔로잉이 max-fanout 보다 많은 f 는 최근 팔로우한 max-fanout 명만 (유명인 한명이 계산을 독차지하지 않도록 , ID 순으로 자르면 오래된 계정에 치우침)
+ * - 사용자를 batch-size 씩 나눠 전용 ForkJoinPool 에서 병렬 계산 , batch 마다 한번의 파이프라인으로 Redis 교체
+ * - 그래프에 없는 사용자 (팔로우를 모두 끊음 / 탈퇴) 의 남은 추천 키는 전체 갱신 끝에 삭제
+ * - app.follow-suggestions.users 카운터 , app.follow-suggestions.refresh 타이머
+ * */
+@Slf4j
+@Component
+public class FollowSuggestionJob {
+
+	/** 팔로우 그래프 - 사용자별 팔로잉 (오름차순) , 팔로잉이 max-fanout 보다 많으면 최근 max-fanout 명 따로 */
+	static final class FollowGraph {
+		private final Long2ObjectOpenHashMap<long[]> following = new Long2ObjectOpenHashMap<>();
+		private final Long2ObjectOpenHashMap<long[]> recent = new Long2ObjectOpenHashMap<>();
+		private static final long[] NONE = new long[0];
+
+		long[] following(long userId) {
+			return following.getOrDefault(userId, NONE);
+		}
+
+		// 추천 계산에 쓰는 팔로잉 (max-fanout 이하)
+		long[] fanout(long userId) {
+			long[] r = recent.get(userId);
+			return r != null ? r : following(userId);
+		}
+
+		boolean contains(long userId) {
+			return following.containsKey(userId);
+		}
+
+		long[] users() {
+			return following.keySet().toLongArray();
+		}
+	}
+
+	private final FollowGraphMapper followGraphMapper;
+	private final FollowSuggestions followSuggestions;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate readTx;
+	private final ForkJoinPool pool;
+	private final int batchSize;
+	private final int maxFanout;
+
+	public FollowSuggestionJob(FollowGraphMapper followGraphMapper,
+							   FollowSuggestions followSuggestions,
+							   MeterRegistry meterRegistry,
+							   PlatformTransactionManager transactionManager,
+							   @Value("${app.follow-suggestions.parallelism:0}") int parallelism,
+							   @Value("${app.follow-suggestions.batch-size:500}") int batchSize,
+							   @Value("${app.follow-suggestions.max-fanout:1000}") int maxFanout) {
+		this.followGraphMapper = followGraphMapper;
+		this.followSuggestions = followSuggestions;
+		this.meterRegistry = meterRegistry;
+		this.readTx = new TransactionTemplate(transactionManager);
+		this.readTx.setReadOnly(true);
+		// 공용 풀(parallel stream 등) 과 분리 , 0 이면 CPU 수
+		this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+		this.batchSize = batchSize;
+		this.maxFanout = maxFanout;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		pool.shutdownNow();
+	}
+
+	@Scheduled(cron = "${app.follow-suggestions.cron:0 0 */6 * * *}")
+	public void run() {
+		try {
+			int users = refresh();
+			log.info("follow suggestions refreshed : users={}", users);
+		} catch (RuntimeException e) {
+			log.warn("follow suggestions refresh failed : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 전체 갱신 - 추천을 다시 쓴 사용자 수 (팔로우하는 사람이 있는 사용자)
+	 * - 그래프 읽기는 호출 스레드에서 (호출한 쪽에 트랜잭션이 있으면 거기에 참여) , 계산 / Redis 쓰기는 풀에서
+	 * - 끝나면 그래프에 없는 사용자의 추천 키 삭제
+	 * */
+	public int refresh() {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		FollowGraph graph = readTx.execute(status -> load());
+		long[] users = graph.users();
+		int written = pool.invoke(new Batch(graph, users, 0, users.length));
+		long removed = followSuggestions.removeExcept(graph::contains);
+		meterRegistry.counter("app.follow-suggestions.users").increment(written);
+		sample.stop(meterRegistry.timer("app.follow-suggestions.refresh"));
+		if (removed > 0) {
+			log.info("follow suggestions removed : users={}", removed);
+		}
+		return written;
+	}
+
+	/**
+	 * 주어진 사용자만 갱신 (테스트 / 수동 재계산) - 그래프에 없는 사용자는 추천 키 삭제 , 다른 사용자 키는 그대로
+	 * */
+	public int refresh(long... userIds) {
+		FollowGraph graph = readTx.execute(status -> load());
+		long[] users = Arrays.stream(userIds).distinct().toArray();
+		return pool.invoke(new Batch(graph, users, 0, users.length));
+	}
+
+	// FOLLOWER_ID 순서로 한 행씩 → 사용자가 바뀔 때 배열로 확정
+	private FollowGraph load() {
+		FollowGraph graph = new FollowGraph();
+		LongArrayList current = new LongArrayList();
+		LongArrayList recent = new LongArrayList();
+		long[] follower = { -1 };
+		followGraphMapper.scanEdges(maxFanout, context -> {
+			FollowGraphMapper.Edge edge = context.getResultObject();
+			if (edge.followerId() != follower[0]) {
+				put(graph, follower[0], current, recent);
+				follower[0] = edge.followerId();
+			}
+			current.add(edge.followeeId());
+			if (edge.recent()) {
+				recent.add(edge.followeeId());
+			}
+		});
+		put(graph, follower[0], current, recent);
+		return graph;
+	}
+
+	private void put(FollowGraph graph, long follower, LongArrayList current, LongArrayList recent) {
+		if (!current.isEmpty()) {
+			graph.following.put(follower, current.toLongArray());
+			if (current.size() > maxFanout) {
+				graph.recent.put(follower, recent.toLongArray());
+			}
+		}
+		current.clear();
+		recent.clear();
+	}
+
+	/** 사용자 구간 [lo, hi) - batch-size 이하가 될 때까지 반으로 나눔 */
+	private final class Batch extends RecursiveTask<Integer> {
+		private final FollowGraph graph;
+		private final long[] users;
+		private final int lo;
+		private final int hi;
+
+		Batch(FollowGraph graph, long[] users, int lo, int hi) {
+			this.graph = graph;
+			this.users = users;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected Integer compute() {
+			if (hi - lo > batchSize) {
+				int mid = (lo + hi) >>> 1;
+				Batch left = new Batch(graph, users, lo, mid);
+				left.fork();
+				int right = new Batch(graph, users, mid, hi).compute();
+				return left.join() + right;
+			}
+			Long2IntOpenHashMap counts = new Long2IntOpenHashMap();  // batch 안에서 재사용
+			long[] batchUsers = Arrays.copyOfRange(users, lo, hi);
+			List<List<Suggestion>> suggestions = new ArrayList<>(batchUsers.length);
+			for (long user : batchUsers) {
+				counts.clear();
+				suggestions.add(suggest(graph, user, counts));
+			}
+			followSuggestions.replace(batchUsers, suggestions);
+			return batchUsers.length;
+		}
+	}
+
+	// 친구의 친구 세기 → 상위 top-n (함께 아는 사람 많은 순 , 같으면 ID 작은 순)
+	private List<Suggestion> suggest(FollowGraph graph, long user, Long2IntOpenHashMap counts) {
+		long[] mine = graph.following(user);
+		for (long friend : mine) {
+			for (long candidate : graph.fanout(friend)) {
+				if (candidate != user && Arrays.binarySearch(mine, candidate) < 0) {
+					counts.addTo(candidate, 1);
+				}
+			}
+		}
+		return top(counts, followSuggestions.getTopN());
+	}
+
+	// 작은 top-n 만 정렬 상태로 유지 (삽입 정렬) - 후보 전체를 정렬하지 않음
+	private static List<Suggestion> top(Long2IntOpenHashMap counts, int topN) {
+		long[] ids = new long[topN];
+		int[] scores = new int[topN];
+		int size = 0;
+		for (Long2IntMap.Entry e : Long2IntMaps.fastIterable(counts)) {  // 엔트리 객체 재사용
+			long id = e.getLongKey();
+			int score = e.getIntValue();
+			if (size == topN && !better(score, id, scores[size - 1], ids[size - 1])) {
+				continue;
+			}
+			int i = size < topN ? size++ : size - 1;
+			while (i > 0 && better(score, id, scores[i - 1], ids[i - 1])) {
+				ids[i] = ids[i - 1];
+				scores[i] = scores[i - 1];
+				i--;
+			}
+			ids[i] = id;
+			scores[i] = score;
+		}
+		List<Suggestion> result = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			result.add(new Suggestion(ids[i], scores[i]));
+		}
+		return result;
+	}
+
+	private static boolean better(int score, long id, int otherScore, long otherId) {
+		return score > otherScore || (score == otherScore && id < otherId);
+	}
+}
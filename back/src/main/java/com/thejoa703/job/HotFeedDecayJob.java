@@ -0,0 +1,36 @@
+package com.thejoa703.job;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.thejoa703.cache.HotFeed;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 피드 점수 감쇠 (HotFeed.decay)
+ * - 감쇠량은 Redis 에 기록된 마지막 감쇠 시각 기준 → 주기가 밀리거나 여러 노드가 실행해도 같은 결과
+ * - app.hot-feed.removed 카운터 (낮은 점수 / 크기 초과로 빠진 게시글)
+ * */
+@Slf4j
+@Component
+public class HotFeedDecayJob {
+
+	private final HotFeed hotFeed;
+	private final MeterRegistry meterRegistry;
+
+	public HotFeedDecayJob(HotFeed hotFeed, MeterRegistry meterRegistry) {
+		this.hotFeed = hotFeed;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Scheduled(fixedDelayString = "${app.hot-feed.decay-ms:600000}", initialDelayString = "${app.hot-feed.decay-ms:600000}")
+	public void run() {
+		try {
+			meterRegistry.counter("app.hot-feed.removed").increment(hotFeed.decay());
+		} catch (RuntimeException e) {
+			log.warn("hot feed decay failed : {}", e.getMessage());  // Redis 장애 - 다음 실행에서 (경과시간만큼 한번에)
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package com.thejoa703.job;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thejoa703.mapper.PartitionMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * POSTS / POST_LIKES 월별 파티션 (CREATED_AT range , interval 1개월)
+ * - 비파티션 → 파티션 변환 / LOCAL 인덱스는 여기서 하지 않음 (PartitionMigration 을 한번 따로 실행)
+ * - 시작시 + 매일 이번달 ~ months-ahead 개월 뒤 파티션을 미리 만들고 P_yyyyMM 으로 이름 변경
+ *   (interval 파티션은 첫 INSERT 때 만들어짐 → 월초 첫 글쓰기가 DDL 을 기다리지 않도록)
+ * - PK / UK 인덱스는 파티션 키가 없어서 GLOBAL 유지
+ * - 최근 피드 쿼리는 CREATED_AT 조건으로 최근 recent-months 개 파티션만 (PostService.recentFirst)
+ * */
+@Slf4j
+@Component
+public class PartitionMaintenanceJob {
+
+	static final List<String> TABLES = List.of("POSTS", "POST_LIKES");
+	private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+	private final PartitionMapper partitionMapper;
+	private final TransactionTemplate tx;
+	private final boolean enabled;
+	private final int monthsAhead;
+
+	public PartitionMaintenanceJob(PartitionMapper partitionMapper,
+								   PlatformTransactionManager transactionManager,
+								   @Value("${app.partitioning.enabled:true}") boolean enabled,
+								   @Value("${app.partitioning.months-ahead:3}") int monthsAhead) {
+		this.partitionMapper = partitionMapper;
+		this.tx = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.monthsAhead = monthsAhead;
+	}
+
+	// 시작시 한번 (이미 있으면 그대로) - 비파티션 테이블 변환은 PartitionMigration (일회성)
+	@Order(10)
+	@EventListener(ApplicationReadyEvent.class)
+	public void onStartup() {
+		precreate();
+	}
+
+	@Scheduled(cron = "${app.partitioning.cron:0 10 3 * * *}")
+	public void precreate() {
+		if (!enabled) {
+			return;
+		}
+		LocalDate month = LocalDate.now().withDayOfMonth(1);
+		for (int i = 0; i <= monthsAhead; i++, month = month.plusMonths(1)) {
+			for (String table : TABLES) {
+				if (partitionMapper.countPartitionedTables(table) > 0) {
+					precreate(table, month);
+				}
+			}
+		}
+	}
+
+	// 이미 P_yyyyMM 이 있으면 그대로
+	private void precreate(String table, LocalDate month) {
+		String partition = "P_" + month.format(MONTH);
+		if (partitionMapper.countPartitions(table, partition) > 0) {
+			return;
+		}
+		// LOCK 은 트랜잭션 안에서 , RENAME(DDL) 이 커밋하면서 잠금 해제
+		ddl(table + " " + partition, () -> tx.executeWithoutResult(status -> {
+			partitionMapper.lockPartitionFor(table, month.toString());
+			partitionMapper.renamePartitionFor(table, month.toString(), partition);
+		}));
+	}
+
+	// 다른 노드가 먼저 했거나 (ORA-00955 , ORA-14081) 권한 / 에디션 문제면 로그만 - 다음 실행에서 다시
+	private void ddl(String name, Runnable ddl) {
+		try {
+			ddl.run();
+			log.info("partition maintenance : {}", name);
+		} catch (DataAccessException e) {
+			log.warn("partition maintenance {} failed : {}", name, e.getMessage());
+		}
+	}
+}
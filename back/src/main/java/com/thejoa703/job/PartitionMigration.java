@@ -0,0 +1,98 @@
+package com.thejoa703.job;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.thejoa703.mapper.PartitionMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월별 파티션 일회성 변환 (관리자가 한번 실행 , 평소 기동에서는 빈 자체가 없음)
+ * - 비파티션 POSTS / POST_LIKES → CREATED_AT 월별 interval 파티션 (ALTER TABLE ... MODIFY ... ONLINE , 기존 행은 P_HISTORY)
+ *   + LOCAL 인덱스 생성 , 이번달 ~ months-ahead 파티션 미리 생성 후 종료 (실패가 있으면 종료코드 1)
+ * - 큰 테이블은 오래 걸리고 리두 / 임시공간을 많이 씀 → 서비스 노드 시작 경로에서 분리 , 사용량 적은 시간에
+ * - 실행 : java -jar back.jar --app.partitioning.migrate=true --spring.main.web-application-type=none
+ * - 이미 파티션 테이블이면 건너뜀 (다시 실행해도 안전)
+ * */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.partitioning", name = "migrate", havingValue = "true")
+public class PartitionMigration {
+
+	private static final String HISTORY_PARTITION = "P_HISTORY";
+
+	// 변환할 때 LOCAL 로 바꿀 기존 인덱스 (PostArchiveJob 이 먼저 생성)
+	private static final Map<String, String> CONVERT_LOCAL = Map.of("POSTS", "IDX_POSTS_LIVE_CREATED");
+
+	// 테이블별 LOCAL 인덱스  이름 → 컬럼
+	private static final Map<String, Map<String, String>> LOCAL_INDEXES = Map.of(
+			"POSTS", Map.of("IDX_POSTS_USER_CREATED", "APP_USER_ID, CREATED_AT"),  // 내 글 목록
+			"POST_LIKES", Map.of("IDX_POST_LIKES_CREATED", "CREATED_AT"));          // 최근 좋아요 (기간 집계)
+
+	private final PartitionMapper partitionMapper;
+	private final PartitionMaintenanceJob maintenanceJob;
+	private final ConfigurableApplicationContext context;
+
+	public PartitionMigration(PartitionMapper partitionMapper,
+							  PartitionMaintenanceJob maintenanceJob,
+							  ConfigurableApplicationContext context) {
+		this.partitionMapper = partitionMapper;
+		this.maintenanceJob = maintenanceJob;
+		this.context = context;
+	}
+
+	// 보관 작업의 스키마(IDX_POSTS_LIVE_CREATED) , 파티션 미리 생성 다음에
+	@Order(20)
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrateAndExit() {
+		boolean ok = migrate();
+		int code = SpringApplication.exit(context, () -> ok ? 0 : 1);
+		System.exit(code);
+	}
+
+	/**
+	 * 변환 + LOCAL 인덱스 + 파티션 미리 생성 - 모두 성공했으면 true
+	 * */
+	public boolean migrate() {
+		LocalDate boundary = LocalDate.now().withDayOfMonth(1);  // 이번달부터 월별
+		boolean ok = true;
+		for (String table : PartitionMaintenanceJob.TABLES) {
+			if (partitionMapper.countPartitionedTables(table) == 0) {
+				String index = CONVERT_LOCAL.get(table);
+				String localIndexes = index != null && partitionMapper.countIndexes(index) > 0 ? index + " LOCAL" : null;
+				ok &= ddl(table + " partitioning", () -> partitionMapper.convertToMonthly(table, HISTORY_PARTITION, boundary.toString(), localIndexes));
+			}
+			if (partitionMapper.countPartitionedTables(table) > 0) {
+				for (Map.Entry<String, String> e : LOCAL_INDEXES.getOrDefault(table, Map.of()).entrySet()) {
+					if (partitionMapper.countIndexes(e.getKey()) == 0) {
+						ok &= ddl(e.getKey(), () -> partitionMapper.createLocalIndex(e.getKey(), table, e.getValue()));
+					}
+				}
+			}
+		}
+		maintenanceJob.precreate();
+		return ok;
+	}
+
+	// 다른 노드가 먼저 했으면 (ORA-00955) 다음 확인에서 건너뜀 , 권한 / 에디션 문제는 로그 + 실패
+	private boolean ddl(String name, Runnable ddl) {
+		try {
+			ddl.run();
+			log.info("partition migration : {}", name);
+			return true;
+		} catch (DataAccessException e) {
+			log.warn("partition migration {} failed : {}", name, e.getMessage());
+			return false;
+		}
+	}
+}
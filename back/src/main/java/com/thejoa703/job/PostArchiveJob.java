@@ -0,0 +1,178 @@
+package com.thejoa703.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thejoa703.cache.PostCache;
+import com.thejoa703.cache.PostViewCounter;
+import com.thejoa703.mapper.ArchiveMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제된 게시글 / 댓글 보관 작업
+ * - 삭제(UPDATED_AT) 후 retention-days 가 지난 게시글 → POSTS_ARCHIVE (+ 댓글 , 이미지 , 해시태그 연결)
+ *   좋아요 / 리트윗은 보관하지 않고 삭제
+ * - 살아있는 게시글의 댓글은 스레드 단위로만 (최상위 + 답글이 모두 오래전에 삭제된 경우) → COMMENTS_ARCHIVE
+ * - batch-size 만큼씩 한 트랜잭션 (배치마다 커밋 , 언두 / 락 범위 제한) , 배치 사이 pause-ms 대기
+ * - 보관 테이블 , 살아있는 행 함수기반 인덱스는 시작시 없으면 생성 (ArchiveMapper.xml)
+ * - app.archive.rows{table} 카운터
+ * */
+@Slf4j
+@Component
+public class PostArchiveJob {
+
+	/**
+	 * 실행 결과
+	 * @param posts 보관한 게시글 수
+	 * @param threads 보관한 댓글 스레드 수
+	 * */
+	public record Result(int posts, int threads) {}
+
+	private final ArchiveMapper archiveMapper;
+	private final ArchiveProperties props;
+	private final PostCache postCache;
+	private final PostViewCounter viewCounter;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate batchTx;
+
+	public PostArchiveJob(ArchiveMapper archiveMapper,
+						  ArchiveProperties props,
+						  PostCache postCache,
+						  PostViewCounter viewCounter,
+						  MeterRegistry meterRegistry,
+						  PlatformTransactionManager transactionManager) {
+		this.archiveMapper = archiveMapper;
+		this.props = props;
+		this.postCache = postCache;
+		this.viewCounter = viewCounter;
+		this.meterRegistry = meterRegistry;
+		this.batchTx = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * 보관 테이블 / 인덱스 생성 (Oracle DDL 은 자동 커밋 → 트랜잭션 밖에서 , 시작시 한번)
+	 * - 여러 노드가 동시에 만들면 늦은 쪽은 ORA-00955 → 무시
+	 * */
+	@Order(0)  // 파티션 변환(PartitionMigration) 전에 - IDX_POSTS_LIVE_CREATED 를 LOCAL 로 변환
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureSchema() {
+		createTable("POSTS_ARCHIVE", archiveMapper::createPostsArchive);
+		createTable("COMMENTS_ARCHIVE", archiveMapper::createCommentsArchive);
+		createTable("IMAGES_ARCHIVE", archiveMapper::createImagesArchive);
+		createTable("POST_HASHTAG_ARCHIVE", archiveMapper::createPostHashtagArchive);
+		createIndex("IDX_POSTS_LIVE_CREATED", archiveMapper::createLivePostsIndex);
+		createIndex("IDX_COMMENTS_LIVE_POST", archiveMapper::createLiveCommentsIndex);
+	}
+
+	@Scheduled(cron = "${app.archive.cron:0 30 4 * * *}")
+	public void run() {
+		if (!props.isEnabled()) {
+			return;
+		}
+		Result result = archive(LocalDateTime.now().minusDays(props.getRetentionDays()));
+		log.info("archive done : posts={} threads={}", result.posts(), result.threads());
+	}
+
+	/**
+	 * cutoff 이전에 삭제된 게시글 / 댓글 스레드 보관
+	 * - 배치마다 새 트랜잭션 (호출한 쪽에 트랜잭션이 있으면 거기에 참여)
+	 * */
+	public Result archive(LocalDateTime cutoff) {
+		int posts = runBatches(limit -> archivePostBatch(cutoff, limit));
+		int threads = runBatches(limit -> archiveThreadBatch(cutoff, limit));
+		return new Result(posts, threads);
+	}
+
+	// 배치 크기보다 적게 옮기면 (남은 것 없음) 종료
+	private int runBatches(Function<Integer, Integer> batch) {
+		int total = 0;
+		for (int i = 0; i < props.getMaxBatches(); i++) {
+			Integer moved = batchTx.execute(status -> batch.apply(props.getBatchSize()));
+			total += moved;
+			if (moved < props.getBatchSize() || !pause()) {
+				break;
+			}
+		}
+		return total;
+	}
+
+	// 자식 테이블 먼저 (FK)
+	private int archivePostBatch(LocalDateTime cutoff, int limit) {
+		List<Long> postIds = archiveMapper.selectDeletedPostBatch(cutoff, limit);
+		if (postIds.isEmpty()) {
+			return 0;
+		}
+		count("IMAGES", archiveMapper.archiveImages(postIds));
+		archiveMapper.deleteImages(postIds);
+		count("POST_HASHTAG", archiveMapper.archivePostHashtags(postIds));
+		archiveMapper.deletePostHashtags(postIds);
+		count("COMMENTS", archiveMapper.archivePostComments(postIds));
+		archiveMapper.deletePostComments(postIds);
+		archiveMapper.deletePostLikes(postIds);
+		archiveMapper.deletePostViews(postIds);
+		archiveMapper.deleteRetweets(postIds);
+		count("POSTS", archiveMapper.archivePosts(postIds));
+		archiveMapper.deletePosts(postIds);
+		viewCounter.remove(postIds);  // 삭제때 남은 조회수 , 순 방문자 키
+		return postIds.size();
+	}
+
+	private int archiveThreadBatch(LocalDateTime cutoff, int limit) {
+		List<Long> rootIds = archiveMapper.selectDeadThreadBatch(cutoff, limit);
+		if (rootIds.isEmpty()) {
+			return 0;
+		}
+		List<Long> postIds = archiveMapper.selectThreadPostIds(rootIds);
+		count("COMMENTS", archiveMapper.archiveThreads(rootIds));
+		archiveMapper.deleteThreads(rootIds);
+		postIds.forEach(postCache::evict);  // 댓글 수 변경
+		return rootIds.size();
+	}
+
+	private void count(String table, int rows) {
+		meterRegistry.counter("app.archive.rows", "table", table).increment(rows);
+	}
+
+	private boolean pause() {
+		try {
+			Thread.sleep(props.getPauseMs());
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();  // 종료중 - 남은 것은 다음 실행
+			return false;
+		}
+	}
+
+	private void createTable(String name, Runnable ddl) {
+		if (archiveMapper.countTables(name) == 0) {
+			runDdl(name, ddl);
+		}
+	}
+
+	private void createIndex(String name, Runnable ddl) {
+		if (archiveMapper.countIndexes(name) == 0) {
+			runDdl(name, ddl);
+		}
+	}
+
+	private void runDdl(String name, Runnable ddl) {
+		try {
+			ddl.run();
+			log.info("archive schema created : {}", name);
+		} catch (DataAccessException e) {
+			log.warn("archive schema {} not created : {}", name, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.thejoa703.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thejoa703.cache.PostViewCounter;
+import com.thejoa703.entity.PostView;
+import com.thejoa703.mapper.PostViewMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조회수 flush - Redis (PostViewCounter) → POST_VIEWS
+ * - 조회된 게시글(post:views:dirty) 을 batch-size 씩 꺼내서 누적값을 MERGE 한 문장으로 (batch 마다 커밋)
+ * - 실패하면 꺼낸 게시글을 다시 dirty 로 → 다음 실행에서
+ * - app.post-views.flushed 카운터
+ * */
+@Slf4j
+@Component
+public class PostViewFlushJob {
+
+	private final PostViewCounter viewCounter;
+	private final PostViewMapper postViewMapper;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate batchTx;
+	private final int batchSize;
+	private final int maxBatches;
+
+	public PostViewFlushJob(PostViewCounter viewCounter,
+							PostViewMapper postViewMapper,
+							MeterRegistry meterRegistry,
+							PlatformTransactionManager transactionManager,
+							@Value("${app.post-views.batch-size:500}") int batchSize,
+							@Value("${app.post-views.max-batches:100}") int maxBatches) {
+		this.viewCounter = viewCounter;
+		this.postViewMapper = postViewMapper;
+		this.meterRegistry = meterRegistry;
+		this.batchTx = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.maxBatches = maxBatches;
+	}
+
+	@Scheduled(fixedDelayString = "${app.post-views.flush-ms:60000}", initialDelayString = "${app.post-views.flush-ms:60000}")
+	public void run() {
+		try {
+			int flushed = flush();
+			if (flushed > 0) {
+				log.debug("post views flushed : {}", flushed);
+			}
+		} catch (RuntimeException e) {
+			log.warn("post views flush failed : {}", e.getMessage());  // Redis 장애 - 다음 실행에서
+		}
+	}
+
+	/**
+	 * 반영한 게시글 수
+	 * - 호출한 쪽에 트랜잭션이 있으면 거기에 참여 (테스트)
+	 * */
+	public int flush() {
+		int total = 0;
+		for (int i = 0; i < maxBatches; i++) {
+			List<Long> postIds = viewCounter.popDirty(batchSize);
+			if (postIds.isEmpty()) {
+				break;
+			}
+			total += flushBatch(postIds);
+			if (postIds.size() < batchSize) {
+				break;
+			}
+		}
+		return total;
+	}
+
+	private int flushBatch(List<Long> postIds) {
+		List<PostView> rows = new ArrayList<>();
+		for (Map.Entry<Long, PostViewCounter.Views> e : viewCounter.get(postIds).entrySet()) {
+			PostView row = new PostView();
+			row.setPostId(e.getKey());
+			row.setViewCount(e.getValue().views());
+			row.setUniqueViewers(e.getValue().uniqueViewers());
+			rows.add(row);
+		}
+		if (rows.isEmpty()) {
+			return 0;  // 그 사이 만료
+		}
+		try {
+			batchTx.executeWithoutResult(status -> postViewMapper.mergeViews(rows));
+		} catch (RuntimeException e) {
+			viewCounter.markDirty(postIds);
+			throw e;
+		}
+		meterRegistry.counter("app.post-views.flushed").increment(rows.size());
+		return rows.size();
+	}
+}
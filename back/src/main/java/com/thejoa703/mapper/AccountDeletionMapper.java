@@ -0,0 +1,33 @@
+package com.thejoa703.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 회원 탈퇴 - 집합 단위 삭제 (AccountDeletionJob)
+ * - 모두 ROWNUM &lt;= limit 만큼만 처리 (한 트랜잭션의 언두 / 락 제한) , 반환값 = 처리한 행 수
+ * - 엔티티 cascade(orphanRemoval) 대신 사용 - 자식 컬렉션을 읽지 않고 FK 순서대로 DELETE
+ * */
+@Mapper
+public interface AccountDeletionMapper {
+
+	// 작성글 숨김 (삭제 전까지 피드에서 빠지도록)
+	int hidePosts(@Param("userId") Long userId, @Param("limit") int limit);
+
+	int deleteLikesByUser(@Param("userId") Long userId, @Param("limit") int limit);
+	int deleteLikesOnPosts(@Param("userId") Long userId, @Param("limit") int limit);
+	int deleteRetweetsByUser(@Param("userId") Long userId, @Param("limit") int limit);
+	int deleteRetweetsOfPosts(@Param("userId") Long userId, @Param("limit") int limit);
+	int deleteFollowings(@Param("userId") Long userId, @Param("limit") int limit);
+	int deleteFollowers(@Param("userId") Long userId, @Param("limit") int limit);
+	int deleteCommentsOnPosts(@Param("userId") Long userId, @Param("limit") int limit);
+	// 사용자 댓글 삭제 전 - 다른 사람 답글을 남는 댓글 아래로 다시 엮음
+	int rerootReplies(@Param("userId") Long userId, @Param("limit") int limit);
+	int reparentReplies(@Param("userId") Long userId, @Param("limit") int limit);
+	int deleteCommentsByUser(@Param("userId") Long userId, @Param("limit") int limit);
+	int deleteImages(@Param("userId") Long userId, @Param("limit") int limit);
+	int deletePostHashtags(@Param("userId") Long userId, @Param("limit") int limit);
+	int deletePostViews(@Param("userId") Long userId, @Param("limit") int limit);
+	int deletePosts(@Param("userId") Long userId, @Param("limit") int limit);
+	int deleteUser(@Param("userId") Long userId, @Param("limit") int limit);
+}
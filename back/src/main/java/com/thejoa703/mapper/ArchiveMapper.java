@@ -0,0 +1,48 @@
+package com.thejoa703.mapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 삭제된 게시글 / 댓글 보관 (PostArchiveJob)
+ * - 보관 테이블로 INSERT ... SELECT 후 원본 DELETE (같은 트랜잭션 , ids 는 배치 크기만큼)
+ * - select*Batch 는 FOR UPDATE SKIP LOCKED → 여러 노드가 동시에 돌아도 같은 행을 옮기지 않음
+ * */
+@Mapper
+public interface ArchiveMapper {
+
+	////// 스키마 (없을때만 생성)
+	int countTables(@Param("name") String name);
+	int countIndexes(@Param("name") String name);
+	void createPostsArchive();
+	void createCommentsArchive();
+	void createImagesArchive();
+	void createPostHashtagArchive();
+	void createLivePostsIndex();
+	void createLiveCommentsIndex();
+
+	////// 삭제된 지 오래된 게시글 (+ 댓글 , 이미지 , 해시태그 연결 / 좋아요 , 리트윗은 버림)
+	List<Long> selectDeletedPostBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+	int archiveImages(@Param("postIds") List<Long> postIds);
+	int deleteImages(@Param("postIds") List<Long> postIds);
+	int archivePostHashtags(@Param("postIds") List<Long> postIds);
+	int deletePostHashtags(@Param("postIds") List<Long> postIds);
+	int archivePostComments(@Param("postIds") List<Long> postIds);
+	int deletePostComments(@Param("postIds") List<Long> postIds);
+	int deletePostLikes(@Param("postIds") List<Long> postIds);
+	int deletePostViews(@Param("postIds") List<Long> postIds);
+	int deleteRetweets(@Param("postIds") List<Long> postIds);
+	int archivePosts(@Param("postIds") List<Long> postIds);
+	int deletePosts(@Param("postIds") List<Long> postIds);
+
+	////// 살아있는 게시글의 댓글 스레드 - 최상위 + 답글이 모두 삭제된 지 오래된 스레드만
+	List<Long> selectDeadThreadBatch(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+	List<Long> selectThreadPostIds(@Param("rootIds") List<Long> rootIds);
+
+	int archiveThreads(@Param("rootIds") List<Long> rootIds);
+	int deleteThreads(@Param("rootIds") List<Long> rootIds);
+}
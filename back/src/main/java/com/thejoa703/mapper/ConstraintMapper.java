@@ -0,0 +1,32 @@
+package com.thejoa703.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 제약조건 이름 맞추기 (ConstraintSchemaJob) - DDL 이라 테이블 / 제약조건 이름은 문자열 치환 (${})
+ * - table , constraint 는 ConstraintSchemaJob 의 상수 또는 USER_CONSTRAINTS 에서 읽은 이름만 전달
+ * */
+@Mapper
+public interface ConstraintMapper {
+
+	int countConstraints(@Param("table") String table, @Param("constraint") String constraint);
+
+	// table.column → refTable 을 참조하는 외래키 이름들 (이름과 상관없이 컬럼 / 참조 테이블로 찾음)
+	List<String> findForeignKeys(@Param("table") String table, @Param("column") String column,
+	                             @Param("refTable") String refTable);
+
+	// table 의 단일 컬럼 유니크 제약조건 이름들
+	List<String> findUniqueConstraints(@Param("table") String table, @Param("column") String column);
+
+	void renameConstraint(@Param("table") String table, @Param("from") String from, @Param("to") String to);
+	void addUniqueConstraint(@Param("table") String table, @Param("constraint") String constraint, @Param("column") String column);
+
+	////// 닉네임 중복 정리 (UK_APPUSER_NICKNAME 을 만들기 전)
+	// 같은 닉네임의 두번째 이후 사용자 (가장 먼저 가입한 사용자는 그대로)
+	List<Long> findDuplicateNicknameUsers();
+	// 닉네임 뒤에 _<ID> (길이 50 안으로 자름)
+	int suffixNicknames(@Param("userIds") List<Long> userIds);
+}
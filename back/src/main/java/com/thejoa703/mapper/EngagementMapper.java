@@ -0,0 +1,58 @@
+package com.thejoa703.mapper;
+
+import java.time.LocalDateTime;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.springframework.dao.DuplicateKeyException;
+
+/**
+ * 좋아요 / 리트윗 / 팔로우  단일문장 upsert, delete (Oracle MERGE)
+ * - 반환값 : 변경된 행 수 (1: 변경됨, 0: 이미 같은 상태)
+ * - JPA 트랜잭션과 같은 커넥션을 사용하므로 호출전 영속성 컨텍스트 flush 필요
+ * */
+@Mapper
+public interface EngagementMapper {
+
+	/**
+	 * 리트윗 행 (MERGE 후 다시 조회)
+	 * @param retweetCount 원본 게시글의 리트윗 수 (같은 문장에서 집계)
+	 * */
+	record RetweetRow(Long id, LocalDateTime createdAt, long retweetCount) {}
+
+	int mergeLike(@Param("userId") Long userId, @Param("postId") Long postId);
+	int deleteLike(@Param("userId") Long userId, @Param("postId") Long postId);
+
+	int mergeRetweet(@Param("userId") Long userId, @Param("postId") Long postId);
+	int deleteRetweet(@Param("userId") Long userId, @Param("postId") Long postId);
+	RetweetRow selectRetweet(@Param("userId") Long userId, @Param("postId") Long postId);
+
+	int mergeFollow(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId);
+	int deleteFollow(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId);
+
+	// 동시 MERGE 경합 : 두 요청이 모두 NOT MATCHED 로 판단하면 늦은 쪽이 ORA-00001
+	//                  → 먼저 들어간 요청이 이미 반영했으므로 "변경없음" 으로 처리
+	default boolean upsertLike(Long userId, Long postId) {
+		try {
+			return mergeLike(userId, postId) > 0;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+
+	default boolean upsertRetweet(Long userId, Long postId) {
+		try {
+			return mergeRetweet(userId, postId) > 0;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+
+	default boolean upsertFollow(Long followerId, Long followeeId) {
+		try {
+			return mergeFollow(followerId, followeeId) > 0;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+}
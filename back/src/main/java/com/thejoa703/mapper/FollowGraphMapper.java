@@ -0,0 +1,27 @@
+package com.thejoa703.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+/**
+ * 팔로우 그래프 (팔로우 추천 - FollowSuggestionJob)
+ * - 탈퇴(대기) 사용자는 제외
+ * */
+@Mapper
+public interface FollowGraphMapper {
+
+	/**
+	 * 팔로우 한 건 (follower → followee)
+	 * @param recent follower 의 팔로우 중 최근 recentLimit 건 안에 드는지 (추천 계산 max-fanout)
+	 * */
+	record Edge(long followerId, long followeeId, boolean recent) {}
+
+	// 전체 팔로우 - FOLLOWER_ID , FOLLOWEE_ID 순서로 한 행씩 (목록을 메모리에 만들지 않음)
+	void scanEdges(@Param("recentLimit") int recentLimit, ResultHandler<Edge> handler);
+
+	// 방금 팔로우한 사람(followeeId) 이 팔로우하는 사람 중 userId 가 아직 팔로우하지 않은 사람 (증분 추천)
+	List<Long> selectNewCandidates(@Param("userId") Long userId, @Param("followeeId") Long followeeId, @Param("limit") int limit);
+}
@@ -0,0 +1,26 @@
+package com.thejoa703.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 월별 파티션 관리 (PartitionMaintenanceJob , PartitionMigration) - DDL 이라 테이블 / 날짜는 문자열 치환 (${})
+ * - table 은 PartitionMaintenanceJob.TABLES 의 상수만 , month 는 yyyy-MM-dd 형식만 전달
+ * */
+@Mapper
+public interface PartitionMapper {
+
+	int countPartitionedTables(@Param("table") String table);
+	int countPartitions(@Param("table") String table, @Param("partition") String partition);
+	int countIndexes(@Param("index") String index);
+
+	// 비파티션 테이블 → CREATED_AT 월별 interval 파티션 (온라인 , 기존 행은 boundary 이전 파티션으로)
+	void convertToMonthly(@Param("table") String table, @Param("initial") String initialPartition,
+	                      @Param("boundary") String boundary, @Param("localIndexes") String localIndexes);
+
+	// interval 파티션 미리 생성 - 해당 월 파티션에 잠금을 걸면 (행이 없어도) 만들어짐 , 커밋시 해제
+	void lockPartitionFor(@Param("table") String table, @Param("month") String month);
+	void renamePartitionFor(@Param("table") String table, @Param("month") String month, @Param("partition") String partition);
+
+	void createLocalIndex(@Param("index") String index, @Param("table") String table, @Param("columns") String columns);
+}
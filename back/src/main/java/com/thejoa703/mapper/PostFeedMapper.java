@@ -0,0 +1,32 @@
+package com.thejoa703.mapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.thejoa703.dto.response.PostResponseDto;
+
+/**
+ * 피드 조회 (MyBatis nested resultMap)
+ * - 게시글 페이지 + 작성자 + 이미지 + 해시태그 + 좋아요/댓글/리트윗 수를 한번의 SQL 로 조회
+ * - 엔티티 로딩 / 지연로딩 없이 바로 PostResponseDto 로 매핑
+ * */
+@Mapper
+public interface PostFeedMapper {
+	// 전체 게시글 페이징  start ~ end (ROWNUM) , since 가 있으면 그 이후 글만 (최근 월 파티션) , before 가 있으면 그 이전 글만
+	List<PostResponseDto> findFeedPage(@Param("since") LocalDateTime since, @Param("before") LocalDateTime before,
+	                                   @Param("start") int start, @Param("end") int end);
+
+	default List<PostResponseDto> findFeedPage(int start, int end) {
+		return findFeedPage(null, null, start, end);
+	}
+
+	// 특정유저가 좋아요한 게시글 페이징
+	List<PostResponseDto> findLikedFeedPage(@Param("userId") Long userId, @Param("since") LocalDateTime since,
+	                                        @Param("before") LocalDateTime before, @Param("start") int start, @Param("end") int end);
+
+	// 주어진 ID 의 게시글 (삭제된 글 제외 , 순서 보장 안함)
+	List<PostResponseDto> findFeedByIds(@Param("postIds") List<Long> postIds);
+}
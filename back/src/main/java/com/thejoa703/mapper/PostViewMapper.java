@@ -0,0 +1,24 @@
+package com.thejoa703.mapper;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.thejoa703.entity.PostView;
+
+/**
+ * 게시글 조회수 (POST_VIEWS)
+ * - Redis 값은 누적값 → 큰 값만 반영 (같은 값을 여러번 / 순서가 바뀌어 반영돼도 안전)
+ * */
+@Mapper
+public interface PostViewMapper {
+
+	List<PostView> selectViews(@Param("postIds") Collection<Long> postIds);
+
+	// Redis 키가 없어졌을 때 이어서 셀 값
+	Long selectViewCount(@Param("postId") Long postId);
+
+	int mergeViews(@Param("views") List<PostView> views);
+}
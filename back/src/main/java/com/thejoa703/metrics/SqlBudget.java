@@ -0,0 +1,22 @@
+package com.thejoa703.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청당 SQL 수 상한 (JPA + MyBatis)
+ * - 컨트롤러 메서드(또는 클래스)에 선언  ex) @SqlBudget(10)
+ * - 초과시 동작은 app.sql-budget.mode  (LOG / REJECT / FAIL)
+ * - 메서드 선언이 클래스 선언보다 우선
+ * */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface SqlBudget {
+
+	/** 허용 SQL 수 */
+	int value();
+}
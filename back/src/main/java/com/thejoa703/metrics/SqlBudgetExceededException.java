@@ -0,0 +1,18 @@
+package com.thejoa703.metrics;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * SQL 예산 초과 (REJECT 모드)
+ * - 예산을 넘는 SQL 을 실행하기 직전에 발생 → 트랜잭션 롤백 , 500 응답
+ * */
+@ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+public class SqlBudgetExceededException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public SqlBudgetExceededException(String endpoint, int budget) {
+		super("SQL 예산 초과 : " + endpoint + " (budget=" + budget + ")");
+	}
+}
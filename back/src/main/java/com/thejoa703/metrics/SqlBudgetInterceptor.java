@@ -0,0 +1,36 @@
+package com.thejoa703.metrics;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 컨트롤러의 @SqlBudget 을 읽어 현재 요청의 예산으로 지정
+ * - 카운트 자체는 SqlCountFilter 에서 시작 (시큐리티 필터의 SQL 도 예산에 포함)
+ * */
+@Component
+@RequiredArgsConstructor
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+
+	private final SqlStatementCounter sqlStatementCounter;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (handler instanceof HandlerMethod method) {
+			SqlBudget budget = method.getMethodAnnotation(SqlBudget.class);
+			if (budget == null) {
+				budget = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), SqlBudget.class);
+			}
+			if (budget != null) {
+				String endpoint = method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+				sqlStatementCounter.budget(budget.value(), endpoint);
+			}
+		}
+		return true;
+	}
+}
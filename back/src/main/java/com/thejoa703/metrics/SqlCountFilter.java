@@ -0,0 +1,74 @@
+package com.thejoa703.metrics;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청당 SQL 수 측정 필터 (JPA + MyBatis , JDBC 단계)
+ * - http.server.requests.sql (method, uri 태그) 로 기록 → /actuator/prometheus
+ * - 시큐리티 필터보다 먼저 실행 (OAuth2 로그인 처리 중 SQL 도 포함)
+ * - @SqlBudget 초과 요청은 경고 로그 + http.server.requests.sql.over_budget 카운터
+ * */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlCountFilter extends OncePerRequestFilter {
+
+	public static final String METRIC_NAME = "http.server.requests.sql";
+	public static final String OVER_BUDGET_METRIC_NAME = "http.server.requests.sql.over_budget";
+
+	private final SqlStatementCounter sqlStatementCounter;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		sqlStatementCounter.start();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			SqlStatementCounter.Usage usage = sqlStatementCounter.stop();
+			String uri = uriTemplate(request);
+			DistributionSummary.builder(METRIC_NAME)
+					.description("JDBC SQL statements per HTTP request")
+					.baseUnit("statements")
+					.tag("method", request.getMethod())
+					.tag("uri", uri)
+					.register(meterRegistry)
+					.record(usage.getCount());
+
+			if (usage.isOverBudget()) {
+				log.warn("SQL budget exceeded : {} {} ({}) count={} budget={}",
+						request.getMethod(), uri, usage.getEndpoint(), usage.getCount(), usage.getBudget());
+				Counter.builder(OVER_BUDGET_METRIC_NAME)
+						.description("HTTP requests over their @SqlBudget")
+						.tag("method", request.getMethod())
+						.tag("uri", uri)
+						.register(meterRegistry)
+						.increment();
+			}
+		}
+	}
+
+	// /api/posts/{postId} 처럼 매핑 패턴으로 태그 (실제 경로를 쓰면 태그 수가 무한히 늘어남)
+	static String uriTemplate(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern != null ? pattern.toString() : "UNKNOWN";
+	}
+}
@@ -0,0 +1,74 @@
+package com.thejoa703.metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * JDBC 단계 SQL 카운트 DataSource
+ * - JPA(Hibernate) , MyBatis 모두 같은 DataSource 를 쓰므로 둘 다 SqlStatementCounter 에 잡힘
+ * - Connection.prepareStatement / prepareCall → SQL 1개 (배치 addBatch 는 prepare 1번으로 셈)
+ * - Connection.createStatement → Statement.execute* / addBatch 마다 1개
+ * - unwrap / isWrapperFor 는 원본으로 위임 (Hikari 메트릭 등)
+ * */
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+	private final SqlStatementCounter sqlStatementCounter;
+
+	public SqlCountingDataSource(DataSource target, SqlStatementCounter sqlStatementCounter) {
+		super(target);
+		this.sqlStatementCounter = sqlStatementCounter;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return counting(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return counting(super.getConnection(username, password));
+	}
+
+	private Connection counting(Connection target) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+				(proxy, method, args) -> {
+					String name = method.getName();
+					if (name.equals("equals")) {
+						return proxy == args[0];
+					}
+					if ((name.equals("prepareStatement") || name.equals("prepareCall")) && args[0] instanceof String sql) {
+						sqlStatementCounter.inspect(sql);  // REJECT 모드면 실행 전에 예외
+					}
+					Object result = invoke(target, method, args);
+					return name.equals("createStatement") ? counting((Statement) result) : result;
+				});
+	}
+
+	private Statement counting(Statement target) {
+		return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] { Statement.class },
+				(proxy, method, args) -> {
+					String name = method.getName();
+					if ((name.startsWith("execute") || name.equals("addBatch")) && args != null && args.length > 0 && args[0] instanceof String sql) {
+						sqlStatementCounter.inspect(sql);
+					}
+					return invoke(target, method, args);
+				});
+	}
+
+	// 원본 예외 (SQLException 등) 그대로 던지기
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.thejoa703.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청당 SQL 카운터
+ * - SqlCountingDataSource 가 JDBC 로 나가는 모든 SQL (JPA + MyBatis) 마다 inspect() 호출 → 현재 스레드(요청)의 카운트 증가
+ * - start() ~ stop() 사이에서만 카운트 (요청 밖의 스케줄러/배치 SQL 은 무시)
+ * - @SqlBudget 예산이 정해진 요청은 초과시 mode 에 따라 처리
+ * */
+@Component
+public class SqlStatementCounter {
+
+	/** 예산 초과시 동작 */
+	public enum BudgetMode {
+		LOG,     // 요청 종료 후 경고 로그 + 메트릭 (운영 기본값)
+		REJECT,  // 초과하는 SQL 실행 전에 SqlBudgetExceededException → 500
+		FAIL     // 테스트용 : AssertionError → 예외처리기에 잡히지 않고 테스트 실패
+	}
+
+	/** 요청 하나의 SQL 사용량 */
+	public static class Usage {
+		public static final int UNLIMITED = -1;
+
+		private int count;
+		private int budget = UNLIMITED;
+		private String endpoint;
+
+		public int getCount()       { return count; }
+		public int getBudget()      { return budget; }
+		public String getEndpoint() { return endpoint; }
+
+		public boolean isOverBudget() {
+			return budget != UNLIMITED && count > budget;
+		}
+	}
+
+	private final ThreadLocal<Usage> usage = new ThreadLocal<>();
+	private final BudgetMode mode;
+
+	public SqlStatementCounter(@Value("${app.sql-budget.mode:LOG}") BudgetMode mode) {
+		this.mode = mode;
+	}
+
+	public String inspect(String sql) {
+		Usage current = usage.get();
+		if (current != null) {
+			current.count++;
+			if (current.isOverBudget()) {
+				if (mode == BudgetMode.REJECT) {
+					throw new SqlBudgetExceededException(current.endpoint, current.budget);
+				}
+				if (mode == BudgetMode.FAIL) {
+					throw new AssertionError("SQL 예산 초과 : " + current.endpoint
+							+ " (budget=" + current.budget + ", count=" + current.count + ")\n" + sql);
+				}
+			}
+		}
+		return sql;  // SQL 은 그대로
+	}
+
+	// 카운트 시작
+	public void start() {
+		usage.set(new Usage());
+	}
+
+	// 현재 요청의 예산 지정 (SqlBudgetInterceptor)
+	public void budget(int budget, String endpoint) {
+		Usage current = usage.get();
+		if (current != null) {
+			current.budget = budget;
+			current.endpoint = endpoint;
+		}
+	}
+
+	// 현재까지의 카운트 (시작 안했으면 0)
+	public int current() {
+		Usage current = usage.get();
+		return current == null ? 0 : current.count;
+	}
+
+	// 카운트 종료 + 사용량 반환
+	public Usage stop() {
+		Usage current = usage.get();
+		usage.remove();
+		return current == null ? new Usage() : current;
+	}
+
+	public BudgetMode getMode() {
+		return mode;
+	}
+}
@@ -79,12 +79,15 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
                 "role", user.getRole(),
                 "email", user.getEmail()
         ));
-        String refresh = jwtProvider.createRefreshToken(user.getId().toString());
+        String familyId = JwtProvider.newTokenId();  // 새 기기 세션
+        String tokenId = JwtProvider.newTokenId();
+        String refresh = jwtProvider.createRefreshToken(user.getId().toString(), familyId, tokenId);
  
-        // Redis에 refresh:<userId> 형태로 저장
+        // Redis에 refresh:sessions:<userId> hash 에 기기별로 저장
         tokenStore.saveRefreshToken(
                 user.getId().toString(),
-                refresh,
+                familyId,
+                tokenId,
                 (long) props.getRefreshTokenExpSeconds()
         );
  
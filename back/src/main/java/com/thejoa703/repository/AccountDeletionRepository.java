@@ -0,0 +1,48 @@
+package com.thejoa703.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.thejoa703.entity.AccountDeletion;
+import com.thejoa703.entity.AccountDeletion.Status;
+
+@Repository
+public interface AccountDeletionRepository extends JpaRepository<AccountDeletion, Long> {
+
+	// 실행할 작업 조건 - 대기중 , 멈춘 RUNNING (노드 종료) , 재시도할 FAILED
+	String RUNNABLE =
+	       "(d.status = com.thejoa703.entity.AccountDeletion.Status.PENDING " +
+	       " OR (d.status IN (com.thejoa703.entity.AccountDeletion.Status.RUNNING, " +
+	       "                  com.thejoa703.entity.AccountDeletion.Status.FAILED) " +
+	       "     AND d.updatedAt < :retryBefore AND d.attempts < :maxAttempts)) ";
+
+	// 실행할 작업 (IDX_ACCOUNT_DELETION_STATUS)
+	@Query("SELECT d.userId FROM AccountDeletion d WHERE " + RUNNABLE + "ORDER BY d.requestedAt")
+	List<Long> findRunnable(@Param("retryBefore") LocalDateTime retryBefore, @Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+	// 작업 선점 - 조회 후 다른 노드가 먼저 가져갔으면 (UPDATED_AT 갱신됨) 0
+	@Modifying
+	@Query("UPDATE AccountDeletion d SET d.status = com.thejoa703.entity.AccountDeletion.Status.RUNNING , " +
+	       "       d.attempts = d.attempts + 1 , d.updatedAt = :now " +
+	       "WHERE d.userId = :userId AND " + RUNNABLE)
+	int claim(@Param("userId") Long userId, @Param("retryBefore") LocalDateTime retryBefore,
+	          @Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now);
+
+	// 진행상황 - 단계 , 지운 행 수 누적 (UPDATED_AT 은 멈춘 작업 판단에도 사용)
+	@Modifying
+	@Query("UPDATE AccountDeletion d SET d.step = :step , d.deletedRows = d.deletedRows + :rows , d.updatedAt = :now " +
+	       "WHERE d.userId = :userId")
+	int progress(@Param("userId") Long userId, @Param("step") String step, @Param("rows") long rows, @Param("now") LocalDateTime now);
+
+	// 완료 / 실패
+	@Modifying
+	@Query("UPDATE AccountDeletion d SET d.status = :status , d.error = :error , d.updatedAt = :now WHERE d.userId = :userId")
+	int finish(@Param("userId") Long userId, @Param("status") Status status, @Param("error") String error, @Param("now") LocalDateTime now);
+}
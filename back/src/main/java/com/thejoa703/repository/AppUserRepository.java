@@ -1,11 +1,19 @@
 package com.thejoa703.repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.thejoa703.entity.AppUser;
 
+import jakarta.persistence.QueryHint;
+
 
 @Repository  //★
 public interface AppUserRepository extends JpaRepository<AppUser, Long> { //Entity , PK ★
@@ -13,7 +21,21 @@ public interface AppUserRepository extends JpaRepository<AppUser, Long> { //Enti
 	Optional<AppUser> findByEmailAndProvider(String email, String provider);
 	Optional<AppUser> findByEmail(String email);
 
-	//닉네임중복
+	// 닉네임만 조회 (쓰기 경로에서 엔티티 전체 로딩 대신 사용)
+	@Query("SELECT u.nickname FROM AppUser u WHERE u.id = :id")
+	Optional<String> findNicknameById(@Param("id") Long id);
+
+	// 전체 이메일 / 닉네임 (중복확인 Bloom 재구성) - 트랜잭션 안에서 스트림으로
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT u.email AS email, u.nickname AS nickname FROM AppUser u")
+	Stream<UserName> streamNames();
+
+	interface UserName {
+		String getEmail();
+		String getNickname();
+	}
+
+	//닉네임중복 (UK_APPUSER_NICKNAME 인덱스)
 	long  countByNickname(String nickname);
 	default boolean existsByNickname(String nickname) {
 		return  countByNickname(nickname) >0 ;
@@ -1,8 +1,14 @@
 package com.thejoa703.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository; 
 import com.thejoa703.entity.Comment;
 
@@ -14,6 +20,62 @@ public interface CommentRepository extends JpaRepository<Comment, Long> { //Enti
 	
 	//삭제되지 않은 댓글 수 집계
 	long  countByPostIdAndDeletedFalse(Long postId); // Comment 엔티티 post필드 확인, 그 안에 id가 매핑
+
+	// 삭제되지 않은 댓글 수 - IDX_COMMENTS_LIVE_POST (살아있는 댓글만 있는 함수기반 인덱스) 와 같은 식
+	@Query(value = "SELECT COUNT(*) FROM COMMENTS WHERE (CASE WHEN DELETED = 0 THEN POST_ID END) = :postId", nativeQuery = true)
+	long countLiveByPostId(@Param("postId") Long postId);
+
+	// 프로젝션 조회 컬럼 (CommentSummary)
+	String SUMMARY_SELECT =
+	       "SELECT c.id AS id, c.content AS content, u.nickname AS authorNickname, c.createdAt AS createdAt, " +
+	       "       c.parent.id AS parentId, c.replyCount AS replyCount, c.path AS path " +
+	       "FROM Comment c JOIN c.user u ";
+
+	// 최상위 댓글 목록 (프로젝션) - 작성자 닉네임 JOIN , 지연로딩 없음 
+	// IDX_COMMENTS_POST_DEL_CREATED (POST_ID, DELETED, CREATED_AT) 인덱스 순서대로 조회
+	@Query(SUMMARY_SELECT +
+	       "WHERE c.post.id = :postId AND c.deleted = false AND c.parent IS NULL " +
+	       "ORDER BY c.createdAt ASC, c.id ASC")
+	List<CommentSummary> findSummariesByPost(@Param("postId") Long postId, Pageable pageable);
+
+	// 커서 이후 최상위 댓글 목록 (createdAt, id 기준 keyset 페이징)
+	@Query(SUMMARY_SELECT +
+	       "WHERE c.post.id = :postId AND c.deleted = false AND c.parent IS NULL " +
+	       "  AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+	       "ORDER BY c.createdAt ASC, c.id ASC")
+	List<CommentSummary> findSummariesByPostAfter(@Param("postId") Long postId,
+	                                              @Param("createdAt") LocalDateTime createdAt,
+	                                              @Param("id") Long id,
+	                                              Pageable pageable);
+
+	// 답글 스레드 (IDX_COMMENTS_ROOT_PATH range scan) - prefix : 최상위면 '%' , 아니면 '부모path.%'
+	@Query(SUMMARY_SELECT +
+	       "WHERE c.rootId = :rootId AND c.path LIKE :prefix AND c.deleted = false " +
+	       "ORDER BY c.path ASC")
+	List<CommentSummary> findReplies(@Param("rootId") Long rootId, @Param("prefix") String prefix, Pageable pageable);
+
+	// 커서(path) 이후 답글 스레드
+	@Query(SUMMARY_SELECT +
+	       "WHERE c.rootId = :rootId AND c.path LIKE :prefix AND c.path > :afterPath AND c.deleted = false " +
+	       "ORDER BY c.path ASC")
+	List<CommentSummary> findRepliesAfter(@Param("rootId") Long rootId, @Param("prefix") String prefix,
+	                                      @Param("afterPath") String afterPath, Pageable pageable);
+
+	// 답글 작성 1) 부모 답글수 +1 (행 잠금으로 순번 직렬화) - 0 이면 부모 없음/삭제/다른 게시글
+	@Modifying
+	@Query("UPDATE Comment c SET c.replyCount = c.replyCount + 1 " +
+	       "WHERE c.id = :id AND c.post.id = :postId AND c.deleted = false")
+	int incrementReplyCount(@Param("id") Long id, @Param("postId") Long postId);
+
+	// 답글 작성 2) 부모의 스레드 위치 + 방금 올린 답글순번
+	@Query("SELECT c.rootId AS rootId, c.path AS path, c.replyCount AS replyCount FROM Comment c WHERE c.id = :id")
+	Optional<ThreadSlot> findThreadSlot(@Param("id") Long id);
+
+	interface ThreadSlot {
+		Long getRootId();
+		String getPath();
+		int getReplyCount();
+	}
 }
 
 /*
@@ -0,0 +1,17 @@
+package com.thejoa703.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 조회용 인터페이스 프로젝션
+ * - 엔티티 대신 필요한 컬럼만 조회 (작성자 닉네임은 JOIN 으로 한번에)
+ * */
+public interface CommentSummary {
+	Long getId();
+	String getContent();
+	String getAuthorNickname();
+	LocalDateTime getCreatedAt();
+	Long getParentId();     // 답글이면 부모 댓글 ID
+	int getReplyCount();    // 직접 달린 답글 수
+	String getPath();       // 스레드 정렬키 (최상위 댓글은 null)
+}
@@ -15,6 +15,10 @@ public interface FollowRepository extends JpaRepository<Follow, Long> { //Entity
     // 팔로우 관계 단건 조회  (findBy)
 	Optional<Follow>  findByFollower_IdAndFollowee_Id(Long followerId  , Long followeeId);
 
+    // 팔로우 관계 + 팔로위 한번에 조회 (MERGE 후 응답용 : ID, 생성일시, 닉네임/프로필)
+	@EntityGraph(attributePaths = {"followee"})
+	Optional<Follow>  findWithFolloweeByFollower_IdAndFollowee_Id(Long followerId  , Long followeeId);
+
     // 팔로잉 목록 조회 (지연 로딩 방지: followee 조인 : findBy)   
 	@EntityGraph(attributePaths = {"followee"})
 	List<Follow> findByFollower_Id(Long followerId);  // Follow 엔티티에서   follower.id 레코드 조회
@@ -1,5 +1,6 @@
 package com.thejoa703.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,6 +18,10 @@ public interface PostRepository extends JpaRepository<Post, Long> { //Entity , P
 
 	// 조회 :  삭제되지 않은 게시글 
 	List<Post> findByDeletedFalse();
+
+	// 사용자의 게시글 ID (캐시 무효화 - 닉네임 변경 , 탈퇴)
+	@Query("SELECT p.id FROM Post p WHERE p.user.id = :userId")
+	List<Long> findIdsByUserId(@Param("userId") Long userId);
 	
 	// 전체게시글 조회 - Oracle 네이티브 페이징  
 	//org.springframework.data.jpa.repository.Query;
@@ -24,7 +29,8 @@ public interface PostRepository extends JpaRepository<Post, Long> { //Entity , P
     @Query(
     	      value = "SELECT * FROM ( " +
     	              "SELECT p.*, ROWNUM AS rnum " +
-    	              "FROM (SELECT * FROM POSTS WHERE DELETED = 0 ORDER BY CREATED_AT DESC) p " + 
+    	              "FROM (SELECT * FROM POSTS WHERE (CASE WHEN DELETED = 0 THEN CREATED_AT END) IS NOT NULL " +   // IDX_POSTS_LIVE_CREATED
+    	              "      ORDER BY (CASE WHEN DELETED = 0 THEN CREATED_AT END) DESC) p " + 
     	              ") " +
     	              "WHERE rnum BETWEEN :start AND :end",
     	      nativeQuery = true
@@ -75,6 +81,56 @@ public interface PostRepository extends JpaRepository<Post, Long> { //Entity , P
     	    )  
     List<Post> findMyPostsAndRetweetsWithPaging(@Param("userId") Long userId , @Param("start") int start, @Param("end") int end);
 
+    // 위와 같음 + since 이후 글만 (POSTS 월별 파티션 중 최근 것만 - PostService.recentFirst)
+    @Query(
+    	      value = "SELECT * FROM ( " +
+    	              "SELECT p.*, ROWNUM AS rnum " +
+    	              "FROM ( " +
+    	              "   SELECT po.ID, po.CONTENT, po.CREATED_AT, po.DELETED, po.UPDATED_AT, po.APP_USER_ID " +
+    	              "   FROM POSTS po " +
+    	              "   WHERE po.APP_USER_ID = :userId AND po.DELETED = 0 AND po.CREATED_AT >= :since " +
+    	              "   UNION ALL " +
+    	              "   SELECT po.ID, po.CONTENT, po.CREATED_AT, po.DELETED, po.UPDATED_AT, po.APP_USER_ID " +
+    	              "   FROM POSTS po " +
+    	              "   WHERE po.ID IN ( " +
+    	              "       SELECT DISTINCT r.ORIGINAL_POST_ID " +
+    	              "       FROM RETWEETS r " +
+    	              "       WHERE r.APP_USER_ID = :userId " +
+    	              "   ) AND po.DELETED = 0 AND po.CREATED_AT >= :since " +
+    	              "   ORDER BY CREATED_AT DESC " +
+    	              ") p " +
+    	              ") " +
+    	              "WHERE rnum BETWEEN :start AND :end",
+    	      nativeQuery = true
+    	    )
+    List<Post> findRecentMyPostsAndRetweetsWithPaging(@Param("userId") Long userId, @Param("since") LocalDateTime since,
+                                                      @Param("start") int start, @Param("end") int end);
+
+    // 위와 같음 + before 이전 글만 (최근 파티션에서 모자란 만큼 이어서 - PostService.recentFirst)
+    @Query(
+    	      value = "SELECT * FROM ( " +
+    	              "SELECT p.*, ROWNUM AS rnum " +
+    	              "FROM ( " +
+    	              "   SELECT po.ID, po.CONTENT, po.CREATED_AT, po.DELETED, po.UPDATED_AT, po.APP_USER_ID " +
+    	              "   FROM POSTS po " +
+    	              "   WHERE po.APP_USER_ID = :userId AND po.DELETED = 0 AND po.CREATED_AT < :before " +
+    	              "   UNION ALL " +
+    	              "   SELECT po.ID, po.CONTENT, po.CREATED_AT, po.DELETED, po.UPDATED_AT, po.APP_USER_ID " +
+    	              "   FROM POSTS po " +
+    	              "   WHERE po.ID IN ( " +
+    	              "       SELECT DISTINCT r.ORIGINAL_POST_ID " +
+    	              "       FROM RETWEETS r " +
+    	              "       WHERE r.APP_USER_ID = :userId " +
+    	              "   ) AND po.DELETED = 0 AND po.CREATED_AT < :before " +
+    	              "   ORDER BY CREATED_AT DESC " +
+    	              ") p " +
+    	              ") " +
+    	              "WHERE rnum BETWEEN :start AND :end",
+    	      nativeQuery = true
+    	    )
+    List<Post> findOlderMyPostsAndRetweetsWithPaging(@Param("userId") Long userId, @Param("before") LocalDateTime before,
+                                                     @Param("start") int start, @Param("end") int end);
+
     /////////////////////////////////
     //List<Post>  findPostsWithPaging( @Param("start") int start, @Param("end") int end );
 }
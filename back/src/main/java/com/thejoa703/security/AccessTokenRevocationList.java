@@ -0,0 +1,184 @@
+package com.thejoa703.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Access Token 폐기목록
+ * - Redis 가 원본   revoked:access (zset jti → 만료시각)  ,  revoked:users (hash userId → 이 초(epoch seconds) 이전 발급분 폐기)
+ * - JWT iat 는 초 단위 → 기준시각도 초 단위로 저장하고 초끼리 비교 (같은 초에 다시 로그인한 토큰은 유효)
+ * - 노드마다 로컬 BloomFilter 로 복사 → 대부분의 요청은 네트워크 없이 "폐기 아님" 판정
+ * - Bloom 에 걸린 경우(실제 폐기 + 드문 오탐)만 Redis 로 확인
+ * - 폐기시 pub/sub 으로 다른 노드 Bloom 에 즉시 추가 , 주기적으로 Redis 에서 재구성(만료분 정리)
+ * */
+@Slf4j
+@Component
+public class AccessTokenRevocationList implements MessageListener {
+
+	private static final String JTI_KEY = "revoked:access";
+	private static final String USER_KEY = "revoked:users";
+	private static final String CHANNEL = "revoked:events";
+	private static final String USER_PREFIX = "u:";  // Bloom 안에서 사용자 항목 구분
+	private static final long MILLIS_THRESHOLD = 100_000_000_000L;  // 이보다 크면 이전 형식(ms) 기준시각
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final JwtProperties props;
+	private final int expectedInsertions;
+	private final double falsePositiveRate;
+
+	private volatile BloomFilter<CharSequence> bloom;
+	private volatile BloomFilter<CharSequence> building;  // 재구성 중인 Bloom (그 사이 도착한 알림도 반영)
+
+	public AccessTokenRevocationList(StringRedisTemplate redisTemplate,
+									 RedisMessageListenerContainer listenerContainer,
+									 JwtProperties props,
+									 @Value("${app.revocation.bloom-expected-insertions:100000}") int expectedInsertions,
+									 @Value("${app.revocation.bloom-fpp:0.001}") double falsePositiveRate) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.props = props;
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		this.bloom = newBloom();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 토큰 하나 폐기 (로그아웃)
+	 * @param jti  토큰 id
+	 * @param expiration 토큰 만료시각 (이후엔 목록에서 정리)
+	 * */
+	public void revoke(String jti, Date expiration) {
+		if (jti == null) {
+			return;
+		}
+		redisTemplate.opsForZSet().add(JTI_KEY, jti, expiration.toInstant().getEpochSecond());
+		publish(jti);
+	}
+
+	/**
+	 * 사용자의 지금까지 발급된 모든 토큰 폐기 (모든 기기 로그아웃 , 회원탈퇴)
+	 * @param userId 사용자 ID
+	 * */
+	public void revokeAll(String userId) {
+		redisTemplate.opsForHash().put(USER_KEY, userId, String.valueOf(Instant.now().getEpochSecond()));
+		publish(USER_PREFIX + userId);
+	}
+
+	/**
+	 * 폐기 여부 - JwtAuthenticationFilter 에서 요청마다 호출
+	 * @param jti  토큰 id (이전 형식 토큰은 null)
+	 * @param userId 사용자 ID
+	 * @param issuedAt 발급시각
+	 * */
+	public boolean isRevoked(String jti, String userId, Date issuedAt) {
+		BloomFilter<CharSequence> current = bloom;
+		boolean jtiHit = jti != null && current.mightContain(jti);
+		boolean userHit = current.mightContain(USER_PREFIX + userId);
+		if (!jtiHit && !userHit) {
+			return false;  // 대부분 여기서 끝 (Redis 왕복 없음)
+		}
+		try {
+			if (jtiHit && redisTemplate.opsForZSet().score(JTI_KEY, jti) != null) {
+				return true;
+			}
+			if (userHit) {
+				Object cutoff = redisTemplate.opsForHash().get(USER_KEY, userId);
+				return cutoff != null && issuedAt != null
+						&& issuedAt.toInstant().getEpochSecond() < cutoffSeconds(cutoff);
+			}
+			return false;  // Bloom 오탐
+		} catch (RuntimeException e) {
+			log.warn("revocation check failed, rejecting token : {}", e.getMessage());
+			return true;  // 확인 불가 → 폐기로 취급
+		}
+	}
+
+	// 다른 노드의 폐기 알림 → 로컬 Bloom 에 추가
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Redis 에서 Bloom 재구성 + 만료된 항목 정리
+	 * - Bloom 은 삭제가 안되므로 새로 만들어 교체
+	 * */
+	@Scheduled(fixedDelayString = "${app.revocation.refresh-ms:30000}", initialDelay = 0)
+	public void refresh() {
+		try {
+			long now = Instant.now().getEpochSecond();
+			redisTemplate.opsForZSet().removeRangeByScore(JTI_KEY, Double.NEGATIVE_INFINITY, now);
+
+			BloomFilter<CharSequence> next = newBloom();
+			building = next;
+			Set<String> jtis = redisTemplate.opsForZSet().rangeByScore(JTI_KEY, now, Double.POSITIVE_INFINITY);
+			if (jtis != null) {
+				jtis.forEach(next::put);
+			}
+
+			// access token 만료시간이 지난 사용자 폐기는 더이상 필요없음
+			long expiredBefore = now - props.getAccessTokenExpSeconds();
+			Map<Object, Object> users = redisTemplate.opsForHash().entries(USER_KEY);
+			users.forEach((userId, cutoff) -> {
+				if (cutoffSeconds(cutoff) < expiredBefore) {
+					redisTemplate.opsForHash().delete(USER_KEY, userId);
+				} else {
+					next.put(USER_PREFIX + userId);
+				}
+			});
+			bloom = next;
+		} catch (RuntimeException e) {
+			// Redis 장애시 기존 Bloom 유지 (pub/sub 으로 받은 항목 포함)
+			log.warn("revocation list refresh failed : {}", e.getMessage());
+		} finally {
+			building = null;
+		}
+	}
+
+	// 기준시각 (초) - 배포 전에 저장된 ms 값도 초로
+	private static long cutoffSeconds(Object cutoff) {
+		long value = Long.parseLong(cutoff.toString());
+		return value > MILLIS_THRESHOLD ? value / 1000 : value;
+	}
+
+	private void publish(String entry) {
+		addLocal(entry);  // 자기 노드는 바로 반영
+		redisTemplate.convertAndSend(CHANNEL, entry);
+	}
+
+	private void addLocal(String entry) {
+		bloom.put(entry);
+		BloomFilter<CharSequence> next = building;
+		if (next != null) {
+			next.put(entry);
+		}
+	}
+
+	private BloomFilter<CharSequence> newBloom() {
+		return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+	}
+}
@@ -20,15 +20,19 @@ import jakarta.servlet.http.HttpServletResponse;
  * JWT 인증필터
  * - Authorization 헤더에서 Bearer 토큰추출
  * - JwtProvider로 Claims파싱
+ * - 폐기된 토큰(jti / 사용자 전체)은 인증하지 않음
  * - CustomUserPincipal 기반   Pincipal 생성후 SecurityContext에 저장
  * */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	//JWT 토큰 발급/검증
     private final JwtProvider jwtProvider;
+    // 폐기(로그아웃)된 토큰 - 로컬 Bloom 으로 먼저 확인
+    private final AccessTokenRevocationList revocationList;
 
-    public JwtAuthenticationFilter(JwtProvider jwtProvider) {
+    public JwtAuthenticationFilter(JwtProvider jwtProvider, AccessTokenRevocationList revocationList) {
         this.jwtProvider = jwtProvider;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -43,6 +47,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = header.substring(7);
             try {
                 Claims claims = jwtProvider.parse(token).getBody();  
+                if (revocationList.isRevoked(claims.getId(), claims.getSubject(), claims.getIssuedAt())) {
+                    throw new IllegalStateException("폐기된 토큰");  // 아래 catch 에서 인증 해제
+                }
                 // subject  →  userId( Long ) , role 추출
                 Long userId = Long.parseLong(claims.getSubject());
                 String role = claims.get("role", String.class);
@@ -13,6 +13,7 @@ public class JwtProperties {
     private String secret;  // 토큰서명에서 사용되는 비밀키
     private int accessTokenExpSeconds;  // Access  Token 만료시간
     private int refreshTokenExpSeconds; // Refresh Token 만료시간
+    private int refreshGraceSeconds = 10; // 동시 재발급 유예시간 (직전 refresh 토큰을 재사용으로 보지 않음)
     private String header;  // JWT 를 담을 http 헤더이름  Authorization
     private String prefix;  // 헤더값 앞에 붙는 접두어   Bearer  
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.thejoa703.security;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
@@ -17,6 +18,8 @@ import io.jsonwebtoken.security.Keys;
 // 2. 토큰 발급/검증
 @Component
 public class JwtProvider {
+    public static final String FAMILY_CLAIM = "fid";  // refresh 토큰 패밀리 (기기별 로그인)
+
     private final JwtProperties props; // 토큰 - 출입증
     private final SecretKey key;  //JWT 서명에 사용할 SecretKey
 
@@ -33,6 +36,7 @@ public class JwtProvider {
         return Jwts.builder()
                 .setIssuer(props.getIssuer()) // 발급자
                 .setSubject(subject)     // 사용자
+                .setId(newTokenId())     // jti - 폐기(로그아웃) 식별용
                 .addClaims(claims)       // 추가정보들
                 .setIssuedAt(Date.from(now))  //발급시간
                 .setExpiration(Date.from(exp)) // 만료시간
@@ -40,18 +44,26 @@ public class JwtProvider {
                 .compact();
     }
     
-    // RefreshToken 생성
-    public String createRefreshToken(String subject) {   // 추가정보필요 x
+    // RefreshToken 생성 - jti(토큰 id) + fid(패밀리) 포함 → TokenStore 에서 회전/폐기
+    public String createRefreshToken(String subject, String familyId, String tokenId) {
         Instant now = Instant.now();
         Instant exp = now.plusSeconds(props.getRefreshTokenExpSeconds());  // 시간더 길게
         return Jwts.builder()
                 .setIssuer(props.getIssuer())
                 .setSubject(subject)
+                .setId(tokenId)
+                .claim(FAMILY_CLAIM, familyId)
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(exp))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
+
+    // 토큰 id / 패밀리 id 생성
+    public static String newTokenId() {
+        return UUID.randomUUID().toString();
+    }
+
     // 토큰 파싱과 검증
     public Jws<Claims> parse(String token) {  // jwt 문자열
         return Jwts.parserBuilder()
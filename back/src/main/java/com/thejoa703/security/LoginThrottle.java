@@ -0,0 +1,71 @@
+package com.thejoa703.security;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 시도 제한 (Redis 토큰버킷)
+ * - IP 별 , 이메일 별 버킷 → 둘 중 하나라도 비면 거절 (BCrypt 해싱 전에)
+ * - Redis 장애시 통과 (해싱은 PasswordHasher 풀 크기로 제한됨)
+ * */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+	private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+			RedisScript.of(new ClassPathResource("redis/token-bucket.lua"), Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${app.login-throttle.ip.capacity:20}")          private int ipCapacity;
+	@Value("${app.login-throttle.ip.per-second:0.5}")       private double ipPerSecond;
+	@Value("${app.login-throttle.email.capacity:5}")        private int emailCapacity;
+	@Value("${app.login-throttle.email.per-second:0.05}")   private double emailPerSecond;
+
+	public LoginThrottle(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 로그인 시도 1회 소비
+	 * @param ip  클라이언트 IP
+	 * @param email 로그인 이메일
+	 * @return 0 이면 허용 , 그외 다시 시도까지 대기(ms)
+	 * */
+	public long tryAcquire(String ip, String email) {
+		long wait = take("ip", ip, ipCapacity, ipPerSecond);
+		if (wait > 0) {
+			return wait;
+		}
+		if (email != null) {
+			return take("email", email.toLowerCase(Locale.ROOT), emailCapacity, emailPerSecond);
+		}
+		return 0;
+	}
+
+	private long take(String scope, String id, int capacity, double perSecond) {
+		try {
+			Long wait = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of("login:bucket:" + scope + ":" + id),
+					String.valueOf(capacity), String.valueOf(perSecond));
+			if (wait != null && wait > 0) {
+				meterRegistry.counter("auth.login.throttled", "scope", scope).increment();
+				return wait;
+			}
+			return 0;
+		} catch (RuntimeException e) {
+			log.warn("login throttle unavailable : {}", e.getMessage());
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.thejoa703.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * BCrypt 전용 스레드풀
+ * - 해싱은 CPU 작업 → 코어 수 만큼의 스레드에서만 실행 (Tomcat 워커가 해싱에 묶이지 않음)
+ * - 큐가 가득차면 즉시 RejectedExecutionException (로그인 폭주시 대기 대신 503)
+ * - executor.queued / executor.active ... {name=password.hasher} 메트릭
+ * */
+@Component
+public class PasswordHasher {
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor executor;
+
+	public PasswordHasher(PasswordEncoder passwordEncoder,
+						  MeterRegistry meterRegistry,
+						  @Value("${app.password-hasher.queue-capacity:64}") int queueCapacity) {
+		this.passwordEncoder = passwordEncoder;
+		int threads = Runtime.getRuntime().availableProcessors();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				new CustomizableThreadFactory("password-hasher-"),
+				new ThreadPoolExecutor.AbortPolicy());
+		ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hasher");
+	}
+
+	// 비밀번호 검증
+	public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+		return CompletableFuture.supplyAsync(() -> passwordEncoder.matches(rawPassword, encodedPassword), executor);
+	}
+
+	// 비밀번호 암호화 (회원가입)
+	public CompletableFuture<String> encode(String rawPassword) {
+		return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,75 @@
+package com.thejoa703.security;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.thejoa703.oauth2.CustomOAuth2User;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 쓰기 API 요청 제한 필터
+ * - JwtAuthenticationFilter 다음에 실행 → 로그인 사용자는 사용자별 , 아니면 IP 별
+ * - 한도 초과시 429 + Retry-After
+ * - 빈으로 등록하지 않음 (서블릿 필터로 자동등록되면 인증 전에 실행됨) → SecurityConfig 에서 생성
+ * */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties props;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties props) {
+        this.rateLimiter = rateLimiter;
+        this.props = props;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain)
+            throws ServletException, IOException {
+
+        RateLimitProperties.Rule rule = props.isEnabled() ? findRule(request) : null;
+        if (rule != null) {
+            long waitMs = rateLimiter.tryAcquire(rule, client(request));
+            if (waitMs > 0) {
+                response.setStatus(429);
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMs + 999) / 1000));
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write("{\"error\":\"Too many requests\"}");
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    // 처음 일치하는 규칙
+    private RateLimitProperties.Rule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitProperties.Rule rule : props.getRules()) {
+            if (rule.getMethods().contains(request.getMethod()) && pathMatcher.match(rule.getPattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    // 제한 단위 - 로그인 사용자 id , 없으면 IP
+    private static String client(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomOAuth2User user) {
+            return "user:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,39 @@
+package com.thejoa703.security;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+// 쓰기 API 요청 제한 설정
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")  // application.yml  app.rate-limit.* 연결
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private List<Rule> rules = new ArrayList<>();  // 위에서부터 처음 일치하는 규칙 적용
+
+    /** 경로별 규칙 - 사용자(로그인) 또는 IP 별로 따로 계산 */
+    @Data
+    public static class Rule {
+        private String name;                 // Redis 키 구분 (rl:<name>:<user|ip>)
+        private List<String> methods = List.of("POST", "PUT", "PATCH", "DELETE");
+        private String pattern;              // /api/posts , /api/likes/** ...
+        private int limit;                   // period 동안 허용 수
+        private int periodSeconds = 60;
+        private int burst = 1;               // 한번에 몰아서 허용하는 수
+
+        // 요청 간격 (ms) - 최소 1ms (limit 이 기간(ms) 보다 크면 0 이 되어 PX 0 으로 SET 실패)
+        public long intervalMs() {
+            return Math.max(periodSeconds * 1000L / Math.max(limit, 1), 1L);
+        }
+
+        // 버스트 허용치 (ms)
+        public long toleranceMs() {
+            return intervalMs() * (Math.max(burst, 1) - 1);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.thejoa703.security;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분산 요청 제한 (GCRA)
+ * - Redis Lua 로 노드 전체 합산 판정
+ * - 같은 규칙의 로컬 GCRA 를 먼저 확인 : 이 노드 혼자서 이미 한도를 넘었다면 전체로도 넘은 것 → Redis 왕복 없이 거절
+ * - Redis 가 거절하면 로컬 상태를 대기시간만큼 밀어둠 → 그동안의 재시도도 로컬에서 거절
+ * - Redis 장애시 로컬 판정만 사용
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+	private static final RedisScript<Long> GCRA_SCRIPT =
+			RedisScript.of(new ClassPathResource("redis/gcra.lua"), Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, AtomicLong> localTat = new ConcurrentHashMap<>();  // 키 → 이론적 도착시각(ms)
+
+	/**
+	 * 요청 1회
+	 * @param rule 적용 규칙
+	 * @param client user:<id> 또는 ip:<addr>
+	 * @return 0 이면 허용 , 그외 다시 시도까지 대기(ms)
+	 * */
+	public long tryAcquire(RateLimitProperties.Rule rule, String client) {
+		String key = "rl:" + rule.getName() + ":" + client;
+		long interval = rule.intervalMs();
+		long tolerance = rule.toleranceMs();
+		long now = System.currentTimeMillis();
+
+		AtomicLong tat = localTat.computeIfAbsent(key, k -> new AtomicLong(now));
+		long localWait = takeLocal(tat, now, interval, tolerance);
+		if (localWait > 0) {
+			meterRegistry.counter("http.server.requests.rate_limited", "rule", rule.getName(), "source", "local").increment();
+			return localWait;
+		}
+
+		try {
+			Long wait = redisTemplate.execute(GCRA_SCRIPT, List.of(key),
+					String.valueOf(interval), String.valueOf(tolerance));
+			if (wait != null && wait > 0) {
+				tat.accumulateAndGet(now + tolerance + wait, Math::max);  // 대기시간 동안은 로컬에서 거절
+				meterRegistry.counter("http.server.requests.rate_limited", "rule", rule.getName(), "source", "redis").increment();
+				return wait;
+			}
+			return 0;
+		} catch (RuntimeException e) {
+			log.warn("rate limiter unavailable, local decision only : {}", e.getMessage());
+			return 0;
+		}
+	}
+
+	// 로컬 GCRA - 허용시 tat 전진
+	private static long takeLocal(AtomicLong tat, long now, long interval, long tolerance) {
+		while (true) {
+			long current = tat.get();
+			long base = Math.max(current, now);
+			if (base - now > tolerance) {
+				return base - now - tolerance;
+			}
+			if (tat.compareAndSet(current, base + interval)) {
+				return 0;
+			}
+		}
+	}
+
+	// 지난 상태 정리 (tat 가 지났으면 새로 시작한 것과 같음)
+	@Scheduled(fixedDelay = 60_000)
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+		localTat.entrySet().removeIf(e -> e.getValue().get() < now);
+	}
+}
@@ -1,55 +1,108 @@
 package com.thejoa703.security;
 
 import lombok.RequiredArgsConstructor;
+
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 
 //토큰냉장고 - redis  
+/**
+ * Refresh Token 저장소
+ * - 사용자별 hash  refresh:sessions:<userId>  { familyId : 현재 jti , familyId:exp : 만료시각 }  → 기기(로그인)마다 패밀리 1개
+ * - 만료된 패밀리(로그아웃 없이 버려진 기기) 는 저장/회전할 때 같은 스크립트에서 정리
+ * - 재발급(회전)은 Lua 스크립트로 확인 + 교체를 한번에 (왕복 1회, 동시 재발급 경합 없음)
+ * - 이미 회전된 토큰이 다시 오면 탈취로 보고 패밀리 전체 폐기
+ * */
 @Component
 @RequiredArgsConstructor
 public class TokenStore {
 
+    /** 재발급 결과 */
+    public enum Rotation {
+        ROTATED,   // 회전 성공
+        GRACE,     // 방금 회전된 토큰 (동시 재발급) - 폐기/재회전 없이 access 토큰만 재발급
+        UNKNOWN,   // 없는 세션 (로그아웃/만료/폐기됨)
+        REUSED     // 재사용 감지 - 패밀리 폐기됨
+    }
+
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/refresh-save.lua"), Long.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/refresh-rotate.lua"), Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final JwtProperties props;
 
     /**
-     * Refresh Token 저장
+     * Refresh Token 저장 (로그인 - 새 패밀리)
      * @param   userId  사용자 ID
-     * @param   token Refresh Token 
-     * @param   long ttlSeconds  만료 시간 (초)
+     * @param   familyId 기기(로그인) 식별자
+     * @param   tokenId  Refresh Token jti
+     * @param   ttlSeconds  만료 시간 (초)
      * */
-    public void saveRefreshToken(String userId, String token, long ttlSeconds) {
-        String key = buildKey(userId);
-        redisTemplate.opsForValue().set(key, token, ttlSeconds, TimeUnit.SECONDS);
+    public void saveRefreshToken(String userId, String familyId, String tokenId, long ttlSeconds) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(buildKey(userId)),
+                familyId, tokenId, String.valueOf(ttlSeconds));
     }
 
     /**
-     * Refresh Token 조회
+     * Refresh Token 회전 (재발급)
      * @param   userId  사용자 ID
-     * @param   저장된 Refresh Token (없으면 null) 
+     * @param   familyId 제출된 토큰의 패밀리
+     * @param   tokenId  제출된 토큰의 jti
+     * @param   newTokenId 새로 발급할 토큰의 jti
+     * @param   ttlSeconds  만료 시간 (초)
+     * @return  회전 결과
+     * */
+    public Rotation rotateRefreshToken(String userId, String familyId, String tokenId, String newTokenId, long ttlSeconds) {
+        if (familyId == null || tokenId == null) {
+            return Rotation.UNKNOWN;  // 패밀리 없는 (이전 형식) 토큰
+        }
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(buildKey(userId)),
+                familyId, tokenId, newTokenId, String.valueOf(ttlSeconds),
+                String.valueOf(props.getRefreshGraceSeconds() * 1000L));
+        if (result == null) {
+            return Rotation.UNKNOWN;
+        }
+        return switch (result.intValue()) {
+            case 1 -> Rotation.ROTATED;
+            case 2 -> Rotation.GRACE;
+            case -1 -> Rotation.REUSED;
+            default -> Rotation.UNKNOWN;
+        };
+    }
+
+    /**
+     * Refresh Token 삭제 (로그아웃시 - 해당 기기만)
+     * @param   userId  사용자 ID 
+     * @param   familyId 기기(로그인) 식별자
      * */
-    public String getRefreshToken(String userId) {
-        String key = buildKey(userId);
-        return redisTemplate.opsForValue().get(key);
+    public void deleteRefreshToken(String userId, String familyId) {
+        if (familyId != null) {
+            redisTemplate.opsForHash().delete(buildKey(userId), familyId, familyId + ":prev", familyId + ":exp");
+        }
     }
 
     /**
-     * Refresh Token 삭제 (로그아웃시)
+     * 모든 기기의 Refresh Token 삭제 (전체 로그아웃 , 회원탈퇴)
      * @param   userId  사용자 ID 
      * */
-    public void deleteRefreshToken(String userId) {
-        String key = buildKey(userId);
-        redisTemplate.delete(key);
+    public void deleteAllRefreshTokens(String userId) {
+        redisTemplate.delete(buildKey(userId));
     }
 
     /**
-     * Redis 키생성 규치
+     * Redis 키생성 규칙
      * @param   userId  사용자 ID 
-     * @param   refresh:<userId>
+     * @return  refresh:sessions:<userId>
      * */
     private String buildKey(String userId) {
-        return "refresh:" + userId;
+        return "refresh:sessions:" + userId;
     }
 }
@@ -1,17 +1,30 @@
 package com.thejoa703.service;
 
+import java.time.ZoneId;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.thejoa703.cache.PostCache;
+import com.thejoa703.cache.UserNameBloomFilter;
+import com.thejoa703.cache.UserProfileCache;
 import com.thejoa703.dto.request.LoginRequest;
 import com.thejoa703.dto.request.UserRequestDto;
 import com.thejoa703.dto.response.UserResponseDto;
+import com.thejoa703.entity.AccountDeletion;
 import com.thejoa703.entity.AppUser;
+import com.thejoa703.repository.AccountDeletionRepository;
 import com.thejoa703.repository.AppUserRepository;
+import com.thejoa703.repository.PostRepository;
+import com.thejoa703.security.PasswordHasher;
+import com.thejoa703.util.ConstraintViolations;
 import com.thejoa703.util.FileStorageService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,7 +36,12 @@ public class AppUserService {
 
 	private final AppUserRepository   appUserRepository;  //##
 	private final FileStorageService  fileStorageService; //##
-	private final PasswordEncoder      passwordEncoder;     //##
+	private final PasswordHasher       passwordHasher;      //## BCrypt 전용 스레드풀
+	private final PostRepository       postRepository;      // 작성글 캐시 무효화용
+	private final PostCache            postCache;           // 게시글 캐시 (작성자 닉네임 포함)
+	private final UserProfileCache     profileCache;        // /auth/me , /auth/refresh 용 프로필 캐시
+	private final UserNameBloomFilter  userNameBloom;       // 이메일/닉네임 중복확인 Bloom
+	private final AccountDeletionRepository accountDeletionRepository;  // 탈퇴 진행상황 (AccountDeletionJob)
 	
 	private static final String DEFAULT_PROFILE_IMAGE="uploads/default.png"; 
 	
@@ -37,14 +55,14 @@ public class AppUserService {
             throw new IllegalArgumentException("이미 존재하는 사용자입니다.");
         }
 
-        // 닉네임 중복 검사 
-        if (appUserRepository.countByNickname(request.getNickname()) > 0) {
+        // 닉네임 중복 검사 (Bloom → 인덱스)
+        if (existsByNickname(request.getNickname())) {
             throw new IllegalArgumentException("이미 사용중인 닉네임입니다.");
         }
         // 새로운 사용자 엔티티 생성
         AppUser user = new AppUser();
         user.setEmail(request.getEmail());  //이메일설정
-        user.setPassword(passwordEncoder.encode(request.getPassword()));  //비밀번호설정
+        user.setPassword(join(passwordHasher.encode(request.getPassword())));  //비밀번호설정
         user.setNickname(request.getNickname());  //닉네임설정
         user.setProvider(provider);  // provider( local, google, naver, kakao,,, 등)
         user.setRole("ROLE_USER");  //기본권한
@@ -52,75 +70,153 @@ public class AppUserService {
                 ? fileStorageService.upload(profileImage)  //  업로드된 이미지 저장
                 : DEFAULT_PROFILE_IMAGE);  // 기본프로필 이미지 사용
         //////////////////////////////////////////////// DB저장후  DTO 반환
-        return UserResponseDto.fromEntity(appUserRepository.save(user));
+        AppUser saved = saveUnique(user);
+        userNameBloom.addUser(saved.getEmail(), saved.getNickname());
+        return UserResponseDto.fromEntity(saved);
     }	
+
+    // 저장 - 동시 가입으로 UK 위반시 중복 예외 (검사와 저장 사이) , 그 외 제약조건 위반은 그대로
+    private AppUser saveUnique(AppUser user) {
+        try {
+            return appUserRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isUniqueViolation(e, "UK_APPUSER_NICKNAME")) {
+                throw new IllegalArgumentException("이미 사용중인 닉네임입니다.");
+            }
+            if (ConstraintViolations.isUniqueViolation(e, "UK_APPUSER_EMAIL_PROVIDER")) {
+                throw new IllegalArgumentException("이미 존재하는 사용자입니다.");
+            }
+            throw e;
+        }
+    }
 	 
 	
 	// Read  : 로그인
     public UserResponseDto login(LoginRequest request) {
+        return join(loginAsync(request));
+    }
+
+    // Read  : 로그인 (비동기) - 사용자 조회만 요청 스레드에서, BCrypt 검증은 PasswordHasher 풀에서
+    @Transactional(readOnly = true)
+    public CompletableFuture<UserResponseDto> loginAsync(LoginRequest request) {
     		// DB정보 : 이메일+provider로 사용자 조회, 없으면 예외
         AppUser user = appUserRepository.findByEmailAndProvider(
                 request.getEmail(),
                 request.getProvider() != null ? request.getProvider() : "local"
-        ).orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
+        ).filter(u -> !u.isDeleted())  // 탈퇴 대기
+         .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
+        UserResponseDto dto = UserResponseDto.fromEntity(user);  // 트랜잭션 안에서 DTO 변환
         
         // 비밀번호 검증                사용자가 입력한값         / DB의 비밀번호
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("비밀번호 불일치");
+        return passwordHasher.matches(request.getPassword(), user.getPassword())
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new IllegalArgumentException("비밀번호 불일치");
+                    }
+                    return dto;
+                });
+    }
+
+    // CompletableFuture 결과 대기 - 원래 예외(IllegalArgumentException 등) 그대로 던짐
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
-        return UserResponseDto.fromEntity(user);
     }
     
     
     
 	// Read  : 사용자조회  by email + provider
     public Optional<AppUser> findByEmailAndProvider(String email, String provider) {
-        return appUserRepository.findByEmailAndProvider(email, provider);
+        return appUserRepository.findByEmailAndProvider(email, provider).filter(u -> !u.isDeleted());  // 탈퇴 대기 제외
     }
     
 	// Read  : 사용자조회  by Id
     public UserResponseDto findById(Long userId) {
-        AppUser user = appUserRepository.findById(userId)
-        							.orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
+        AppUser user = activeUser(userId);
         return UserResponseDto.fromEntity(user);
     }    
     
+	// Read  : 프로필 (캐시) - 캐시 hit 이면 커넥션 없음
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public UserProfileCache.Profile getProfile(Long userId) {
+        return profileCache.get(userId, () -> {
+            AppUser user = activeUser(userId);
+            long updatedAt = user.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            return new UserProfileCache.Profile(UserResponseDto.fromEntity(user), updatedAt);
+        });
+    }
+
 	// Update : 닉네임 변경
     public UserResponseDto updateNickname(Long userId, String newNickname) {
-    		// 닉네임 중복검사
-        if (appUserRepository.countByNickname(newNickname) > 0) {
+    		// 닉네임 중복검사 (Bloom → 인덱스)
+        if (existsByNickname(newNickname)) {
             throw new IllegalArgumentException("이미 사용중인 닉네임입니다.");
         }
         // 사용자조회 후 
-        AppUser user = appUserRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));  //##1. 조회
+        AppUser user = activeUser(userId);  //##1. 조회
         user.setNickname(newNickname); //##2. 닉네임셋팅
-        return UserResponseDto.fromEntity(appUserRepository.save(user));  //##3. save 변경 저장후 dto반환
+        evictPosts(userId);  // 캐시된 작성글의 닉네임
+        profileCache.evict(userId);
+        AppUser saved = saveUnique(user);  //##3. save 변경 저장후 dto반환
+        userNameBloom.addNickname(newNickname);
+        return UserResponseDto.fromEntity(saved);
     }    
     
 	// Update : 프로필 이미지변경
     public UserResponseDto updateProfileImage(Long userId, MultipartFile profileImage) {
     		// 사용자 조회
-        AppUser user = appUserRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
+        AppUser user = activeUser(userId);
         // 새이미지 업로드 또는 기본 이미지 설정
         user.setUfile(profileImage != null && !profileImage.isEmpty()   // 이미지가 빈게 아니라면
                 ? fileStorageService.upload(profileImage)               // 업로드
                 : DEFAULT_PROFILE_IMAGE);                               // 기본값
+        profileCache.evict(userId);
         return UserResponseDto.fromEntity(appUserRepository.save(user)); // 저장 후 dto반환
     }
     
-	// Delete : ID 삭제
-	public void deleteById(Long userId) {  appUserRepository.deleteById(userId);  }
+	// Delete : 탈퇴 - 바로 "탈퇴 대기" 로 바꾸고 (로그인 / 조회 불가) 실제 삭제는 AccountDeletionJob 이 나눠서
+	//          (엔티티 삭제는 cascade 로 글 / 댓글 / 팔로우 .. 를 모두 읽어 한 행씩 지움 → 큰 계정은 수 분간 락)
+	public void deleteById(Long userId) {
+		AppUser user = activeUser(userId);
+		user.setDeleted(true);
+		appUserRepository.save(user);
+		accountDeletionRepository.save(new AccountDeletion(userId));  // PENDING
+		evictPosts(userId);
+		profileCache.evict(userId);
+	}
+
+	// 탈퇴 대기가 아닌 사용자
+	private AppUser activeUser(Long userId) {
+		return appUserRepository.findById(userId)
+				.filter(user -> !user.isDeleted())
+				.orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
+	}
+
+	// 작성글 캐시 무효화
+	private void evictPosts(Long userId) {
+		postRepository.findIdsByUserId(userId).forEach(postCache::evict);
+	}
 	
 	// 전체 사용자수
 	public long countUsers() {  return  appUserRepository.count(); }
 	
-	// 이메일 중복 여부
-	public boolean existsByEmail(String email) {  return  appUserRepository.countByEmail(email) > 0 ;}
+	// 이메일 중복 여부 - Bloom 에 없으면 DB 조회 없이 미사용
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public boolean existsByEmail(String email) {
+		return userNameBloom.mightContainEmail(email) && appUserRepository.countByEmail(email) > 0;
+	}
 	
-	// 닉네임 중복 여부
-	public boolean existsByNickname(String nickname) {  return  appUserRepository.countByNickname(nickname) > 0 ;}
+	// 닉네임 중복 여부 - Bloom 에 없으면 DB 조회 없이 미사용
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public boolean existsByNickname(String nickname) {
+		return userNameBloom.mightContainNickname(nickname) && appUserRepository.countByNickname(nickname) > 0;
+	}
 	
 	
 	
@@ -131,19 +227,34 @@ public class AppUserService {
 							   .email(email)
 							   .provider(provider)
 							   .providerId(providerId)
-							   .nickname(nickname)
+							   .nickname(availableNickname(nickname))
 							   .ufile(image)
 							   .role("ROLE_USER")
 							   .build();
-		return appUserRepository.save(user);  // CREATE → insert
+		AppUser saved = saveUnique(user);  // CREATE → insert
+		userNameBloom.addUser(saved.getEmail(), saved.getNickname());
+		return saved;
+	}
+
+	// 소셜 닉네임이 이미 사용중이면 뒤에 번호를 붙임 (닉네임 UK)
+	private String availableNickname(String nickname) {
+		String base = nickname.length() > 44 ? nickname.substring(0, 44) : nickname;  // NICKNAME 50자
+		String candidate = nickname;
+		while (existsByNickname(candidate)) {
+			candidate = base + "_" + ThreadLocalRandom.current().nextInt(10000, 100000);
+		}
+		return candidate;
 	}
 	
 	
-	// 권한 조회
+	// 권한 조회 (프로필 캐시)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public String findRoleByUserId(Long userId) {
-		return   appUserRepository.findById(userId)       // userId 로 사용자 조회   Optional<AppUser> 반환
-								  .map(AppUser::getRole)  // 조회된 사용자가 있으면 getRole() 권한반환
-								  .orElse("ROLE_USER");   // 없으면 기본값 ROLE_USER 반환
+		try {
+			return getProfile(userId).user().getRole();  // 캐시된 사용자 권한
+		} catch (IllegalArgumentException e) {
+			return "ROLE_USER";   // 없으면 기본값 ROLE_USER 반환
+		}
 	}
 	
 }
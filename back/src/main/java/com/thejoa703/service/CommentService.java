@@ -1,19 +1,27 @@
 package com.thejoa703.service;
 
+import java.time.LocalDateTime;
 import java.util.List; // ✅ List 사용
 import java.util.stream.Collectors; // ✅ Stream API 사용
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service; // ✅ Service 어노테이션
 import org.springframework.transaction.annotation.Transactional; // ✅ 트랜잭션 관리
 
+import com.thejoa703.cache.HotFeed;
+import com.thejoa703.cache.PostCache;
 import com.thejoa703.dto.request.CommentRequestDto; // ✅ 댓글 요청 DTO
+import com.thejoa703.dto.response.CommentPageResponseDto;
 import com.thejoa703.dto.response.CommentResponseDto; // ✅ 댓글 응답 DTO
-import com.thejoa703.entity.AppUser;
 import com.thejoa703.entity.Comment; // ✅ 댓글 엔티티
-import com.thejoa703.entity.Post;
 import com.thejoa703.repository.AppUserRepository; // ✅ 사용자 레포지토리
 import com.thejoa703.repository.CommentRepository; // ✅ 댓글 레포지토리
+import com.thejoa703.repository.CommentSummary;
 import com.thejoa703.repository.PostRepository; // ✅ 게시글 레포지토리
+import com.thejoa703.util.ConstraintViolations;
 
 import lombok.RequiredArgsConstructor; // ✅ 생성자 주입
 
@@ -22,6 +30,7 @@ import lombok.RequiredArgsConstructor; // ✅ 생성자 주입
  * - 생성(Create), 조회(Read), 수정(Update), 삭제(Delete), 카운트(Count)
  */
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 @Transactional
 public class CommentService {
@@ -29,43 +38,139 @@ public class CommentService {
     private final CommentRepository commentRepository;    //댓글작성
     private final AppUserRepository userRepository;    // 사용자
     private final PostRepository    postRepository;  // 게시글
+    private final PostCache         postCache;  // 게시글 캐시 (댓글 수 포함)
+    private final HotFeed           hotFeed;    // 인기 피드 점수
+
+    private static final int MAX_PAGE_SIZE = 100;    // 댓글 페이지 최대 크기
+    private static final int MAX_PATH_LENGTH = 700;  // COMMENTS.PATH 컬럼 길이 (깊이 약 100)
 
     //////  댓글 생성 
     public CommentResponseDto createComment( Long userId , CommentRequestDto dto    ) {
-        // 사용자 조회
-    		AppUser user = userRepository.findById(userId)
+        // 작성자 닉네임만 조회 (사용자 존재여부 확인 겸)
+    		String nickname = userRepository.findNicknameById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));  
 
-    		Post    post = postRepository.findById(  dto.getPostId()   )
-                .orElseThrow(() -> new IllegalArgumentException("게시글 없음"));  
-    		 
-        // 댓글 설정 
+        // 댓글 설정 - 게시글은 조회없이 FK 참조만 설정 (존재여부는 FK 제약조건이 검증)
     		Comment comment = new Comment();
     		comment.setContent(dto.getContent());
-    		comment.setUser(user);
-    		comment.setPost(post); 
-        commentRepository.save(comment);  
+    		comment.setUser(userRepository.getReferenceById(userId));
+    		comment.setPost(postRepository.getReferenceById(dto.getPostId())); 
+    		if (dto.getParentId() != null) {
+    			attachToParent(comment, dto.getParentId(), dto.getPostId());  // 답글
+    		}
+    		try {
+    			commentRepository.saveAndFlush(comment);  
+    		} catch (DataIntegrityViolationException e) {
+    			if (ConstraintViolations.isForeignKeyViolation(e, "FK_COMMENTS_POST")) {
+    				throw new IllegalArgumentException("게시글 없음");
+    			}
+    			throw e;  // 다른 제약조건 위반은 그대로
+    		}
+    		postCache.evict(dto.getPostId());
+    		hotFeed.add(dto.getPostId(), HotFeed.Signal.COMMENT);
         
         // 댓글 dto 
         return CommentResponseDto.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
-                .authorNickname(comment.getUser().getNickname())
+                .authorNickname(nickname)
                 .createdAt(comment.getCreatedAt())
+                .parentId(dto.getParentId())
+                .path(comment.getPath())
                 .build();
     }
+
+    // 답글 연결 - 부모 답글수를 올리고(행 잠금) 그 값을 순번으로 path 생성 (부모 엔티티 로딩 없음)
+    private void attachToParent(Comment reply, Long parentId, Long postId) {
+        if (commentRepository.incrementReplyCount(parentId, postId) == 0) {
+            throw new IllegalArgumentException("부모 댓글 없음");
+        }
+        CommentRepository.ThreadSlot slot = commentRepository.findThreadSlot(parentId)
+                .orElseThrow(() -> new IllegalArgumentException("부모 댓글 없음"));
+
+        String segment = String.format("%06d", slot.getReplyCount());
+        String path = slot.getPath() != null ? slot.getPath() + "." + segment : segment;
+        if (path.length() > MAX_PATH_LENGTH) {
+            throw new IllegalArgumentException("답글 깊이 초과");
+        }
+        reply.setParent(commentRepository.getReferenceById(parentId));
+        reply.setRootId(slot.getRootId() != null ? slot.getRootId() : parentId);
+        reply.setPath(path);
+    }
   
-    // 해당 게시글의 댓글들 조회
+    // 해당 게시글의 댓글들 조회 (프로젝션 - 작성자 닉네임 JOIN, 지연로딩 없음)
+    @Transactional(readOnly = true)
     public List<CommentResponseDto> getCommentsByPost(Long postId) {
-        return commentRepository.findByPostIdAndDeletedFalse(postId).stream()
-                .map(c -> CommentResponseDto.builder()
-                        .id(c.getId())
-                        .content(c.getContent())
-                        .authorNickname(c.getUser().getNickname())
-                        .createdAt(c.getCreatedAt())
-                        .build())
+        return commentRepository.findSummariesByPost(postId, Pageable.unpaged()).stream()
+                .map(CommentService::toDto)
                 .collect(Collectors.toList());
     }
+
+    // 해당 게시글의 댓글 커서 페이징 조회 (cursor 없으면 첫페이지)
+    @Transactional(readOnly = true)
+    public CommentPageResponseDto getCommentsPage(Long postId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);  // 다음페이지 여부 확인용 +1
+
+        List<CommentSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = commentRepository.findSummariesByPost(postId, limit);
+        } else {
+            int sep = cursor.lastIndexOf('_');
+            try {
+                LocalDateTime createdAt = LocalDateTime.parse(cursor.substring(0, sep));
+                Long id = Long.valueOf(cursor.substring(sep + 1));
+                rows = commentRepository.findSummariesByPostAfter(postId, createdAt, id, limit);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서");
+            }
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CommentSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
+        CommentSummary last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CommentPageResponseDto.builder()
+                .comments(page.stream().map(CommentService::toDto).collect(Collectors.toList()))
+                .nextCursor(hasNext ? last.getCreatedAt() + "_" + last.getId() : null)  // 커서 : 작성일시_댓글ID
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 답글 더보기 - 댓글 아래 전체 스레드를 path 순서(깊이 우선)로 커서 페이징
+    @Transactional(readOnly = true)
+    public CommentPageResponseDto getReplies(Long commentId, String cursor, int size) {
+        CommentRepository.ThreadSlot parent = commentRepository.findThreadSlot(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("댓글 없음"));
+        Long rootId = parent.getRootId() != null ? parent.getRootId() : commentId;
+        String prefix = parent.getPath() != null ? parent.getPath() + ".%" : "%";
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);  // 다음페이지 여부 확인용 +1
+        List<CommentSummary> rows = (cursor == null || cursor.isBlank())
+                ? commentRepository.findReplies(rootId, prefix, limit)
+                : commentRepository.findRepliesAfter(rootId, prefix, cursor, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CommentSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
+        return CommentPageResponseDto.builder()
+                .comments(page.stream().map(CommentService::toDto).collect(Collectors.toList()))
+                .nextCursor(hasNext ? page.get(page.size() - 1).getPath() : null)  // 커서 : 마지막 답글 path
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 프로젝션 → 응답 DTO
+    private static CommentResponseDto toDto(CommentSummary c) {
+        return CommentResponseDto.builder()
+                .id(c.getId())
+                .content(c.getContent())
+                .authorNickname(c.getAuthorNickname())
+                .createdAt(c.getCreatedAt())
+                .parentId(c.getParentId())
+                .replyCount(c.getReplyCount())
+                .path(c.getPath())
+                .build();
+    }
  
     // 댓글수정
     public CommentResponseDto updateComment(Long userId, Long commentId, CommentRequestDto dto) {
@@ -86,6 +191,9 @@ public class CommentService {
                 .content(comment.getContent())
                 .authorNickname(comment.getUser().getNickname())
                 .createdAt(comment.getCreatedAt())
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .replyCount(comment.getReplyCount())
+                .path(comment.getPath())
                 .build();
     }
     
@@ -98,12 +206,15 @@ public class CommentService {
         if (!comment.getUser().getId().equals(userId)) {
             throw new IllegalArgumentException("권한 없음");  
         }
+        if (!comment.isDeleted()) {
+            hotFeed.subtract(comment.getPost().getId(), HotFeed.Signal.COMMENT);  // 이미 삭제된 댓글은 두번 빼지 않음
+        }
         // 삭제 플래그 설정
         comment.setDeleted(true);  
         commentRepository.save(comment);  // 수정반영
     }
     // 게시글의 댓글 수 집계
     public long countComments(Long postId) {
-        return commentRepository.countByPostIdAndDeletedFalse(postId);  
+        return commentRepository.countLiveByPostId(postId);  
     }
 }
@@ -2,27 +2,40 @@
 package com.thejoa703.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.thejoa703.cache.FollowSuggestions;
 import com.thejoa703.dto.request.FollowRequestDto;
+import com.thejoa703.dto.response.FollowSuggestionResponseDto;
 import com.thejoa703.dto.response.FollowResponseDto;
 import com.thejoa703.dto.response.BlockResponseDto;
 import com.thejoa703.entity.AppUser;
 import com.thejoa703.entity.Follow; 
+import com.thejoa703.mapper.EngagementMapper;
+import com.thejoa703.mapper.FollowGraphMapper;
 import com.thejoa703.repository.AppUserRepository; 
 import com.thejoa703.repository.FollowRepository;
+import com.thejoa703.util.ConstraintViolations;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 @Transactional
 public class FollowService { 
     private final FollowRepository followRepository; 
     private final AppUserRepository userRepository;
+    private final EngagementMapper engagementMapper;  // MERGE upsert
+    private final FollowGraphMapper followGraphMapper;  // 추천 증분 후보
+    private final FollowSuggestions followSuggestions;  // 팔로우 추천 (Redis)
     //팔로우
     public FollowResponseDto follow(Long followerId, FollowRequestDto dto) {
         Long followeeId = dto.getFolloweeId();
@@ -30,22 +43,49 @@ public class FollowService {
             throw new IllegalStateException("자기 자신은 팔로우할 수 없습니다.");
         }
 
-        //팔루워
-        AppUser follower = userRepository.findById(followerId)
-                .orElseThrow(() -> new IllegalArgumentException("팔로워 없음"));
-        //팔로위
-        AppUser followee = userRepository.findById(followeeId)
-                .orElseThrow(() -> new IllegalArgumentException("팔로잉 대상 없음"));
-        // jap 저장
-        Follow saved = followRepository.save(new Follow(follower, followee));
-        return FollowResponseDto.of(saved, followee, false);
+        // MERGE 저장 - 이미 팔로우 중이면 변경없이 현재 상태 반환 (idempotent)
+        //  사용자 존재여부는 FK 제약조건이 검증 (사전 조회 없음)
+        followRepository.flush();  // 쓰기지연 SQL 먼저 반영 (MyBatis 같은 커넥션)
+        boolean inserted;
+        try {
+            inserted = engagementMapper.upsertFollow(followerId, followeeId);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isForeignKeyViolation(e, "FK_FOLLOWS_FOLLOWEE")) {
+                throw new IllegalArgumentException("팔로잉 대상 없음");
+            }
+            if (ConstraintViolations.isForeignKeyViolation(e, "FK_FOLLOWS_FOLLOWER")) {
+                throw new IllegalArgumentException("팔로워 없음");
+            }
+            throw e;
+        }
+        if (inserted) {  // 추천 증분 - 새로 팔로우한 사람이 팔로우하는 사람들 +1
+            followSuggestions.followed(followerId, followeeId,
+                    followGraphMapper.selectNewCandidates(followerId, followeeId, followSuggestions.getTopN()));
+        }
+        // 저장된 행 다시 조회 (MERGE 는 RETURNING 불가) - 팔로위 닉네임/프로필까지 한번에
+        Follow follow = followRepository.findWithFolloweeByFollower_IdAndFollowee_Id(followerId, followeeId)
+                .orElseThrow(() -> new IllegalStateException("팔로우 저장 실패"));
+        return FollowResponseDto.of(follow, follow.getFollowee(), false);
     }
-    // 언팔로우
+    // 언팔로우 (조회없이 바로 삭제)
     public Long unfollow(Long followerId, Long followeeId) {
-        followRepository.findByFollower_IdAndFollowee_Id(followerId, followeeId)
-            .ifPresent(followRepository::delete);
+        followRepository.flush();
+        engagementMapper.deleteFollow(followerId, followeeId);
         return followeeId;
     } 
+    // 팔로우 추천 (친구의 친구) - Redis 순위 + 사용자 한번에 조회 , 탈퇴(대기) 사용자 제외
+    @Transactional(readOnly = true)
+    public List<FollowSuggestionResponseDto> getSuggestions(Long userId, int size) {
+        List<FollowSuggestions.Suggestion> suggestions = followSuggestions.get(userId, size);
+        Map<Long, AppUser> users = userRepository.findAllById(suggestions.stream().map(FollowSuggestions.Suggestion::userId).toList())
+                .stream()
+                .filter(u -> !u.isDeleted())
+                .collect(Collectors.toMap(AppUser::getId, Function.identity()));
+        return suggestions.stream()
+                .filter(s -> users.containsKey(s.userId()))
+                .map(s -> FollowSuggestionResponseDto.of(users.get(s.userId()), s.mutual()))
+                .collect(Collectors.toList());
+    }
     //////////////////////////////////////////////////////
     // ✅ Followings 조회  
     @Transactional(readOnly = true)
@@ -1,18 +1,19 @@
 package com.thejoa703.service;
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.thejoa703.cache.HotFeed;
+import com.thejoa703.cache.PostCache;
 import com.thejoa703.dto.request.CommentRequestDto;
 import com.thejoa703.dto.request.LikeRequestDto;
 import com.thejoa703.dto.response.CommentResponseDto;
 import com.thejoa703.dto.response.LikeResponseDto;
-import com.thejoa703.entity.AppUser;
-import com.thejoa703.entity.Post;
-import com.thejoa703.entity.PostLike;
-import com.thejoa703.repository.AppUserRepository;
+import com.thejoa703.mapper.EngagementMapper;
 import com.thejoa703.repository.PostLikeRepository;
-import com.thejoa703.repository.PostRepository;
+import com.thejoa703.util.ConstraintViolations;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,38 +22,38 @@ import lombok.RequiredArgsConstructor;
  * - 좋아요 추가, 취소, 카운트, 여부 확인
  */
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 @Transactional
 public class PostLikeService {
 
     private final PostLikeRepository postLikeRepository;
-    private final AppUserRepository  userRepository;
-    private final PostRepository     postRepository;
+    private final EngagementMapper   engagementMapper;  // MERGE upsert
+    private final PostCache          postCache;         // 게시글 캐시 (좋아요 수 포함)
+    private final HotFeed            hotFeed;           // 인기 피드 점수
  
-    //////  좋아요 생성 
+    //////  좋아요 생성 (MERGE - 중복 좋아요는 변경없음)
     public LikeResponseDto addLike( Long userId , LikeRequestDto dto    ) {
-        // 사용자 조회
-    		AppUser user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));  
-
-    		Post    post = postRepository.findById(  dto.getPostId()   )
-                .orElseThrow(() -> new IllegalArgumentException("게시글 없음"));  
-    		
-    		// 중복 좋아요 방지
-    		if( postLikeRepository.countByUser_IdAndPost_Id(userId, dto.getPostId())  > 0 ) {  // 기존에 있다 1개
-    	        long count = postLikeRepository.countByPost_Id(post.getId());   //현재좋아요수 반환
-    	        return LikeResponseDto.builder()
-    	                .postId(  post.getId())
-    	                .count(count)
-    	                .build();
-    	    		
+    		Long postId = dto.getPostId();
+    		postLikeRepository.flush();  // 쓰기지연 SQL 먼저 반영 (MyBatis 같은 커넥션)
+    		try {
+    			if (engagementMapper.upsertLike(userId, postId)) {
+    				postCache.evict(postId);  // 새로 좋아요한 경우만
+    				hotFeed.add(postId, HotFeed.Signal.LIKE);
+    			}
+    		} catch (DataIntegrityViolationException e) {
+    			if (ConstraintViolations.isForeignKeyViolation(e, "FK_POST_LIKES_POST")) {
+    				throw new IllegalArgumentException("게시글 없음");
+    			}
+    			if (ConstraintViolations.isForeignKeyViolation(e, "FK_POST_LIKES_USER")) {
+    				throw new IllegalArgumentException("사용자 없음");
+    			}
+    			throw e;
     		}
-    		// 좋아요 저장
-    		postLikeRepository.save(  new PostLike(user,post) );
     		// 최신 좋아요 수 반환
-        long count = postLikeRepository.countByPost_Id(post.getId());  
+        long count = postLikeRepository.countByPost_Id(postId);  
         return LikeResponseDto.builder()
-                .postId(  post.getId())
+                .postId(  postId )
                 .count(count)
                 .build();
     		
@@ -71,7 +72,11 @@ public class PostLikeService {
  
     // 좋아요 취소
     public LikeResponseDto removeLike(Long userId, Long postId) {
-        postLikeRepository.deleteByUserAndPost(userId, postId);  
+        postLikeRepository.flush();
+        if (engagementMapper.deleteLike(userId, postId) > 0) {
+            postCache.evict(postId);
+            hotFeed.subtract(postId, HotFeed.Signal.LIKE);
+        }
  
         long updatedCount = postLikeRepository.countByPost_Id(postId);  
         return LikeResponseDto.builder()
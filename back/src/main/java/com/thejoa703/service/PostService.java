@@ -1,20 +1,39 @@
 package com.thejoa703.service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.google.common.collect.Lists;
+import com.thejoa703.cache.HotFeed;
+import com.thejoa703.cache.PostCache;
+import com.thejoa703.cache.PostViewCounter;
+import com.thejoa703.config.RoutingDataSource;
 import com.thejoa703.dto.request.PostRequestDto;
 import com.thejoa703.dto.response.PostResponseDto;
 import com.thejoa703.entity.AppUser;
 import com.thejoa703.entity.Hashtag;
 import com.thejoa703.entity.Image;
 import com.thejoa703.entity.Post;
+import com.thejoa703.entity.PostView;
+import com.thejoa703.mapper.PostFeedMapper;
+import com.thejoa703.mapper.PostViewMapper;
 import com.thejoa703.repository.AppUserRepository;
 import com.thejoa703.repository.HashtagRepository;
 import com.thejoa703.repository.PostRepository;
@@ -31,6 +50,7 @@ import lombok.RequiredArgsConstructor;
 * - 리트윗 수 포함
 */ 
 @Service
+@Timed("app.service")  // 메서드별 타이머 (class, method, exception 태그)
 @RequiredArgsConstructor
 @Transactional
 public class PostService {
@@ -40,6 +60,17 @@ public class PostService {
     private final HashtagRepository hashtagRepository; // 해쉬태그 레파지토리
     private final FileStorageService fileStorageService; // 파일스토리지 - 업로드
     private final RetweetRepository retweetRepository;  // 리트윗
+    private final PostFeedMapper postFeedMapper;  // 피드 조회 (MyBatis)
+    private final PostCache postCache;  // 단건 캐시 (Caffeine + Redis)
+    private final PostViewCounter postViewCounter;  // 조회수 (Redis INCR + HyperLogLog)
+    private final PostViewMapper postViewMapper;  // 조회수 (POST_VIEWS - flush 된 값)
+    private final HotFeed hotFeed;  // 인기 피드 (Redis ZSET)
+    private final PlatformTransactionManager transactionManager;  // 캐시 백그라운드 로딩용
+
+    private static final int MAX_HOT_PAGE_SIZE = 100;  // 인기 피드 페이지 최대 크기 (ZREVRANGE / IN 목록)
+
+    @Value("${app.partitioning.recent-months:2}")
+    private int recentMonths = 2;  // 최근 피드가 먼저 보는 월 파티션 수 (이번달 포함)
  
     ///// 게시글작성 - 이미지업로드 , 해쉬태그작성, 글작성
     public PostResponseDto createPost(Long userId, PostRequestDto dto, List<MultipartFile> files) {
@@ -86,90 +117,203 @@ public class PostService {
     }
     
     
-    // 단일 게시글 조회
-    @Transactional(readOnly = true)
+    // 단일 게시글 조회 (캐시)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)  // 캐시 hit 이면 커넥션 없음
     public PostResponseDto getPost(Long postId) {  // 해당하는 글번호 받아서 
+        return withViews(getCachedPost(postId).post());
+    }
+    // 단일 게시글 + ETag (본문 해시) - 캐시 hit 이면 DB 조회 없이 304 판단
+    //  이미 readOnly 트랜잭션 안이면 (REPLICA 커넥션일 수 있음) miss 는 그 트랜잭션에서 읽기만 하고 캐시에 넣지 않음
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PostCache.Entry getCachedPost(Long postId) {
+        boolean replicaBound = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return postCache.get(postId, () -> loadPost(postId), !replicaBound);
+    }
+
+    // 캐시 miss / 백그라운드 재로딩 - 호출 스레드에 트랜잭션이 없어도 지연로딩 되도록
+    //  호출쪽 트랜잭션이 있으면 참여 (커넥션 추가 없음 , 아직 커밋 안된 글도 보임)
+    //  없으면 새 readOnly 트랜잭션을 PRIMARY 로 - 캐시에 ttl 동안 남는 값이므로 REPLICA(복제 지연) 에서 읽지 않음
+    private PostResponseDto loadPost(Long postId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return tx.execute(status -> readPost(postId));
+        }
+        return RoutingDataSource.onPrimary(() -> tx.execute(status -> readPost(postId)));
+    }
+
+    private PostResponseDto readPost(Long postId) {
         Post post = postRepository.findById(postId)
                 .filter(p -> !p.isDeleted())
                 .orElseThrow(() -> new IllegalArgumentException("게시글 없음"));
-        
+
         PostResponseDto dto = PostResponseDto.from(post);  // 이미지, 해쉬태그, 좋아요.... 묶음
         dto.setRetweetCount(retweetRepository.countByOriginalPostId(post.getId()));  // 리트윗처리
-        return dto;
+        return withStoredViews(List.of(dto)).get(0);
+    }
+
+    /**
+     * 조회 1회 기록 (Redis 만 - DB 는 PostViewFlushJob 이 주기적으로)
+     * @param viewer 로그인 사용자 "u:<id>" , 비로그인 "ip:<IP>"
+     * */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public void recordView(Long postId, String viewer) {
+        postViewCounter.record(postId, viewer, id -> {
+            Long stored = postViewMapper.selectViewCount(id);  // Redis 키가 새로 생겼을 때만
+            return stored != null ? stored : 0L;
+        });
+    }
+
+    /**
+     * 캐시된 게시글 + 최신 조회수 (Redis) - 복사본
+     * - 조회수는 ETag 에 포함되지 않음 (약한 ETag : 304 면 조회수만 조금 지난 값일 수 있음)
+     * */
+    public PostResponseDto withViews(PostResponseDto cached) {
+        PostViewCounter.Views live = postViewCounter.get(List.of(cached.getId())).get(cached.getId());
+        if (live == null) {
+            return cached;
+        }
+        return cached.withViews(Math.max(cached.getViewCount(), live.views()),
+                Math.max(cached.getUniqueViewers(), live.uniqueViewers()));
+    }
+
+    // 목록 (새로 만든 DTO) - DB 값 위에 Redis 최신값 (flush 전이면 Redis 가 큼)
+    private List<PostResponseDto> withLiveViews(List<PostResponseDto> dtos) {
+        Map<Long, PostViewCounter.Views> live = postViewCounter.get(dtos.stream().map(PostResponseDto::getId).toList());
+        dtos.forEach(dto -> {
+            PostViewCounter.Views views = live.get(dto.getId());
+            if (views != null) {
+                dto.setViewCount(Math.max(dto.getViewCount(), views.views()));
+                dto.setUniqueViewers(Math.max(dto.getUniqueViewers(), views.uniqueViewers()));
+            }
+        });
+        return dtos;
+    }
+
+    // 엔티티로 만든 DTO - POST_VIEWS 조회 (IN 목록 1000개 제한)
+    private List<PostResponseDto> withStoredViews(List<PostResponseDto> dtos) {
+        for (List<PostResponseDto> chunk : Lists.partition(dtos, 1000)) {
+            Map<Long, PostView> stored = postViewMapper.selectViews(chunk.stream().map(PostResponseDto::getId).toList()).stream()
+                    .collect(Collectors.toMap(PostView::getPostId, v -> v));
+            chunk.forEach(dto -> {
+                PostView view = stored.get(dto.getId());
+                if (view != null) {
+                    dto.setViewCount(view.getViewCount());
+                    dto.setUniqueViewers(view.getUniqueViewers());
+                }
+            });
+        }
+        return dtos;
     }
+
     // 전체게시글 조회
     @Transactional(readOnly = true)
     public List<PostResponseDto> getAllPosts() { // 삭제가 안된글들
-        return postRepository.findByDeletedFalse().stream()
+        return withLiveViews(withStoredViews(postRepository.findByDeletedFalse().stream()
                 .map(post -> {
                     PostResponseDto dto = PostResponseDto.from(post);
                     dto.setRetweetCount(retweetRepository.countByOriginalPostId(post.getId())); 
                     return dto;
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.toList())));
     }
  
-    // 전체게시글 조회 페이징들어감.
+    // 전체게시글 조회 페이징들어감. (MyBatis - 한번의 SQL로 DTO 조회)
     @Transactional(readOnly = true)
     public List<PostResponseDto> getAllPostsPaged(int page, int size) {  // 현재페이지 1, 몇개씩 10
         int start = (page - 1) * size + 1;  // 1(START)~10(END)
         int end = page * size;  //10
-        List<Post> posts = postRepository.findPostsWithPaging(start, end);
-
-        return posts.stream()
-                .map(post -> {
-                    PostResponseDto dto = PostResponseDto.from(post);
-                    dto.setRetweetCount(retweetRepository.countByOriginalPostId(post.getId()));  
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return withLiveViews(recentFirst(start, end, (since, before, from, to) -> postFeedMapper.findFeedPage(since, before, from, to)));
     }
     
-    // 특정유저가 좋아요한 게시글 페이징 조회
+    // 특정유저가 좋아요한 게시글 페이징 조회 (MyBatis - 한번의 SQL로 DTO 조회)
     @Transactional(readOnly = true)
     public List<PostResponseDto> getLikedPostsPaged(Long userId, int page, int size) {  // 현재페이지 1, 몇개씩 10
         int start = (page - 1) * size + 1;  // start
         int end = page * size; // end
-        List<Post> posts = postRepository.findLikedPostsWithPaging(userId, start, end);
-
-        return posts.stream()
-                .map(post -> {
-                    PostResponseDto dto = PostResponseDto.from(post);
-                    dto.setRetweetCount(retweetRepository.countByOriginalPostId(post.getId())); // ✅ 리트윗 수 포함
-                    return dto;
-                })
-                .collect(Collectors.toList());  // 리스트
+        return withLiveViews(recentFirst(start, end, (since, before, from, to) -> postFeedMapper.findLikedFeedPage(userId, since, before, from, to)));
+    }
+    /**
+     * 인기 피드 - 점수 순위 (ZREVRANGE) 의 게시글을 한번에 조회 , 점수 계산 SQL 없음
+     * - 조회되지 않은 ID (삭제 / 보관 , replica 에 아직 없는 새 글) 는 건너뛰기만 - 순위 정리는 삭제 경로에서 (deletePost , 탈퇴 작업)
+     * - page 는 1 이상 , size 는 1 ~ MAX_HOT_PAGE_SIZE 로 맞춤
+     * - 첫 페이지가 비어있으면 (Redis 장애 / 반응 없음) 최신순 피드
+     * */
+    @Transactional(readOnly = true)
+    public List<PostResponseDto> getHotPostsPaged(int page, int size) {
+        int pageNo = Math.max(page, 1);
+        int pageSize = Math.min(Math.max(size, 1), MAX_HOT_PAGE_SIZE);
+        List<Long> ids = hotFeed.range((long) (pageNo - 1) * pageSize, (long) pageNo * pageSize - 1);
+        if (ids.isEmpty()) {
+            return pageNo == 1 ? getAllPostsPaged(1, pageSize) : List.of();
+        }
+        Map<Long, PostResponseDto> found = postFeedMapper.findFeedByIds(ids).stream()
+                .collect(Collectors.toMap(PostResponseDto::getId, dto -> dto));
+        return withLiveViews(ids.stream().map(found::get).filter(Objects::nonNull).toList());  // 순위 순서
     }
+
     // 내가쓴글 + 리트윗
     @Transactional(readOnly = true)
     public List<PostResponseDto> getMyPostsAndRetweetsPaged(Long userId, int page, int size) {
         int start = (page - 1) * size + 1;
         int end = page * size;
         // ✅ 변경: PostRepository에 추가한 UNION ALL 쿼리 호출
-        List<Post> posts = postRepository.findMyPostsAndRetweetsWithPaging(userId, start, end);
+        List<Post> posts = recentFirst(start, end, (since, before, from, to) -> since != null
+                ? postRepository.findRecentMyPostsAndRetweetsWithPaging(userId, since, from, to)
+                : before != null
+                ? postRepository.findOlderMyPostsAndRetweetsWithPaging(userId, before, from, to)
+                : postRepository.findMyPostsAndRetweetsWithPaging(userId, from, to));
 
-        return posts.stream()
+        return withLiveViews(withStoredViews(posts.stream()
                 .map(post -> {
                     PostResponseDto dto = PostResponseDto.from(post);
                     dto.setRetweetCount(retweetRepository.countByOriginalPostId(post.getId())); // ✅ 리트윗 수 포함
                     return dto;
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.toList())));
     }
  
+    /** 피드 한 구간 - since 이후 (최근 파티션) 또는 before 이전 (나머지 파티션) , 둘 다 null 이면 전체 */
+    @FunctionalInterface
+    private interface FeedWindow<T> {
+        List<T> page(LocalDateTime since, LocalDateTime before, int start, int end);
+    }
+
+    /**
+     * 최근 월 파티션만 먼저 조회 (CREATED_AT >= since → 파티션 pruning)
+     * - 한 페이지가 다 차면 그대로 (더 오래된 글은 이 페이지에 올 수 없음)
+     * - 일부만 찼으면 최근 글은 여기서 끝 → 모자란 만큼만 since 이전 파티션에서 1번부터 이어서 (최근 파티션을 다시 읽지 않음)
+     * - 하나도 없으면 start 가 최근 글 수를 넘어선 것 (몇 개인지 모름) → 전체 파티션으로 같은 구간
+     * */
+    private <T> List<T> recentFirst(int start, int end, FeedWindow<T> query) {
+        LocalDateTime since = LocalDate.now().withDayOfMonth(1).minusMonths(Math.max(recentMonths, 1) - 1).atStartOfDay();
+        int size = end - start + 1;
+        List<T> recent = query.page(since, null, start, end);
+        if (recent.size() >= size) {
+            return recent;
+        }
+        if (recent.isEmpty()) {
+            return start == 1 ? query.page(null, since, 1, end) : query.page(null, null, start, end);
+        }
+        List<T> page = new ArrayList<>(recent);
+        page.addAll(query.page(null, since, 1, size - recent.size()));
+        return page;
+    }
+
     // 해쉬태그검색
     @Transactional(readOnly = true)
     public List<PostResponseDto> getPostsByHashtag(String hashtag) {
         String normalized = hashtag.startsWith("#") ? hashtag.substring(1) : hashtag;
         List<Post> posts = postRepository.findByHashtags_NameAndDeletedFalse(normalized);
 
-        return posts.stream()
+        return withLiveViews(withStoredViews(posts.stream()
                 .map(post -> {
                     PostResponseDto dto = PostResponseDto.from(post);
                     dto.setRetweetCount(retweetRepository.countByOriginalPostId(post.getId())); // ✅ 리트윗 수 포함
                     return dto;
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.toList())));
     }
     
     // 게시글수정
@@ -216,6 +360,7 @@ public class PostService {
         }
         // 글 수정
         Post updated = postRepository.save(post);
+        postCache.evict(postId);
         PostResponseDto dtoResponse = PostResponseDto.from(updated);
         dtoResponse.setRetweetCount(retweetRepository.countByOriginalPostId(updated.getId())); 
         return dtoResponse;
@@ -229,6 +374,9 @@ public class PostService {
         }
         post.setDeleted(true);
         postRepository.save(post);
+        postCache.evict(postId);
+        hotFeed.remove(List.of(postId));
+        postViewCounter.remove(List.of(postId));  // 조회수 , 순 방문자 키
     }
     // 전체게시글 수
     @Transactional(readOnly = true)
@@ -1,49 +1,63 @@
 package com.thejoa703.service;
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
+import com.thejoa703.cache.HotFeed;
+import com.thejoa703.cache.PostCache;
 import com.thejoa703.dto.request.RetweetRequestDto;
 import com.thejoa703.dto.response.RetweetResponseDto;
-import com.thejoa703.entity.AppUser;
-import com.thejoa703.entity.Post;
-import com.thejoa703.entity.Retweet;
-import com.thejoa703.repository.AppUserRepository;
-import com.thejoa703.repository.PostRepository;
+import com.thejoa703.mapper.EngagementMapper;
 import com.thejoa703.repository.RetweetRepository;
+import com.thejoa703.util.ConstraintViolations;
 
 import lombok.RequiredArgsConstructor;
 
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 @Transactional
 public class RetweetService {
 
     private final RetweetRepository retweetRepository;
-    private final AppUserRepository userRepository;
-    private final PostRepository postRepository;
-    // 리트윗추가
+    private final EngagementMapper engagementMapper;  // MERGE upsert
+    private final PostCache postCache;  // 게시글 캐시 (리트윗 수 포함)
+    private final HotFeed hotFeed;  // 인기 피드 점수
+    // 리트윗추가 (MERGE - 한 문장으로 중복체크 + 저장)
     public RetweetResponseDto addRetweet(Long userId, RetweetRequestDto dto) {
-        AppUser user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
-        Post post = postRepository.findById(dto.getOriginalPostId())
-                .orElseThrow(() -> new IllegalArgumentException("게시글 없음"));
+        Long postId = dto.getOriginalPostId();
+        retweetRepository.flush();  // 쓰기지연 SQL 먼저 반영 (MyBatis 같은 커넥션)
 
-        if (retweetRepository.countByUserAndOriginalPost(userId, dto.getOriginalPostId()) > 0) {
+        boolean inserted;
+        try {
+            inserted = engagementMapper.upsertRetweet(userId, postId);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isForeignKeyViolation(e, "FK_RETWEETS_POST")) {
+                throw new IllegalArgumentException("게시글 없음");
+            }
+            if (ConstraintViolations.isForeignKeyViolation(e, "FK_RETWEETS_USER")) {
+                throw new IllegalArgumentException("사용자 없음");
+            }
+            throw e;
+        }
+        if (!inserted) {
             throw new IllegalStateException("이미 리트윗한 게시글입니다.");
         }
-
-        Retweet saved = retweetRepository.save(new Retweet(user, post));
-        long count = retweetRepository.countByOriginalPostId(post.getId());  
+        postCache.evict(postId);
+        hotFeed.add(postId, HotFeed.Signal.RETWEET);
+        // 저장된 행 (ID, 생성일시) + 리트윗 수 - 한번에 조회
+        EngagementMapper.RetweetRow row = engagementMapper.selectRetweet(userId, postId);
 
         return RetweetResponseDto.builder()
-                .id(saved.getId())
-                .userId(user.getId())
-                .originalPostId(post.getId())
-                .createdAt(saved.getCreatedAt())
-                .retweetCount(count) 
+                .id(row.id())
+                .userId(userId)
+                .originalPostId(postId)
+                .createdAt(row.createdAt())
+                .retweetCount(row.retweetCount()) 
                 .build();
     }
 
@@ -59,23 +73,19 @@ public class RetweetService {
         return retweetRepository.countByOriginalPostId(postId);
     }
 
-    // 리트윗 취소
+    // 리트윗 취소 (조회없이 바로 삭제)
     public RetweetResponseDto removeRetweet(Long userId, Long postId) {
-        Retweet retweet = retweetRepository.findByUserAndOriginalPost(userId, postId)
-                .orElseThrow(() -> new IllegalStateException("리트윗 없음"));
-
-        if (!retweet.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("권한 없음");
+        retweetRepository.flush();
+        if (engagementMapper.deleteRetweet(userId, postId) == 0) {
+            throw new IllegalStateException("리트윗 없음");
         }
-
-        retweetRepository.delete(retweet);
+        postCache.evict(postId);
+        hotFeed.subtract(postId, HotFeed.Signal.RETWEET);
         long count = retweetRepository.countByOriginalPostId(postId);  
 
         return RetweetResponseDto.builder()
-                .id(retweet.getId())
                 .userId(userId)
                 .originalPostId(postId)
-                .createdAt(retweet.getCreatedAt())
                 .retweetCount(count)  
                 .build();
     }
@@ -0,0 +1,65 @@
+package com.thejoa703.util;
+
+import java.sql.SQLException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 제약조건 위반 판별 유틸
+ * - 조회 없이 FK/UK 제약조건으로 검증하는 쓰기 경로에서 사용
+ * - Oracle 에러코드 기준  ORA-00001(유니크) , ORA-02291(부모키 없음)
+ * - 제약조건 이름까지 확인한 경우만 "없음/중복" 으로 번역 , 나머지는 그대로 다시 던짐
+ * */
+public final class ConstraintViolations {
+
+	private static final int ORA_UNIQUE_VIOLATION = 1;      // ORA-00001 unique constraint violated
+	private static final int ORA_PARENT_KEY_NOT_FOUND = 2291; // ORA-02291 integrity constraint violated - parent key not found
+
+	// ORA-02291: integrity constraint (SCHEMA.FK_NAME) violated - parent key not found
+	private static final Pattern CONSTRAINT_NAME = Pattern.compile("constraint \\((?:[^.()]+\\.)?([^.()]+)\\)");
+
+	private ConstraintViolations() { }
+
+	// 유니크 제약조건 위반 (중복 좋아요, 중복 팔로우 ...)
+	public static boolean isUniqueViolation(DataIntegrityViolationException e) {
+		return oracleErrorCode(e) == ORA_UNIQUE_VIOLATION;
+	}
+
+	// 외래키 위반 (없는 사용자, 없는 게시글 참조)
+	public static boolean isForeignKeyViolation(DataIntegrityViolationException e) {
+		return oracleErrorCode(e) == ORA_PARENT_KEY_NOT_FOUND;
+	}
+
+	// 특정 유니크 제약조건 위반
+	public static boolean isUniqueViolation(DataIntegrityViolationException e, String constraint) {
+		return isUniqueViolation(e) && constraint.equalsIgnoreCase(constraintName(e));
+	}
+
+	// 특정 외래키 위반
+	public static boolean isForeignKeyViolation(DataIntegrityViolationException e, String constraint) {
+		return isForeignKeyViolation(e) && constraint.equalsIgnoreCase(constraintName(e));
+	}
+
+	// 예외 체인의 SQLException 메시지에서 제약조건 이름 추출 (스키마 제외 , 없으면 null)
+	public static String constraintName(Throwable e) {
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			if (t instanceof SQLException sql && sql.getMessage() != null) {
+				Matcher m = CONSTRAINT_NAME.matcher(sql.getMessage());
+				return m.find() ? m.group(1) : null;
+			}
+		}
+		return null;
+	}
+
+	// 예외 체인에서 SQLException 에러코드 추출 (없으면 -1)
+	private static int oracleErrorCode(Throwable e) {
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			if (t instanceof SQLException sql) {
+				return sql.getErrorCode();
+			}
+		}
+		return -1;
+	}
+}
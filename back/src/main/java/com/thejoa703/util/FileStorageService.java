@@ -1,19 +1,27 @@
 package com.thejoa703.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.*;
+import java.util.Set;
 import java.util.UUID; 
+import java.util.zip.GZIPOutputStream;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
  * 파일 저장 서비스
  * - 업로드된 파일을 로컬 uploads 폴더에 저장
+ * - 텍스트 파일(svg, css, js ...)은 .gz 도 같이 저장 → /uploads 요청시 압축본으로 응답 (EncodedResourceResolver)
  * */ 
 @Service  //##
+@Timed("app.service")
 public class FileStorageService {
 	
     private final Path root = Paths.get("uploads");  // 프로젝트 실행위치 기준으로 uploads 폴더 생성
+    // 미리 압축해둘 텍스트 확장자 (이미지/동영상은 이미 압축된 형식)
+    private static final Set<String> PRECOMPRESS_EXTENSIONS = Set.of("svg", "css", "js", "json", "txt", "html", "xml", "csv");
 
     public String upload(MultipartFile file) {
         try {
@@ -23,9 +31,25 @@ public class FileStorageService {
             String filename = UUID.randomUUID() + "_" + file.getOriginalFilename(); // 파일명 충돌방지
             Path target = root.resolve(filename);   // uploads디렉토리안에 filename 붙여서 최종 저장경로 생성
             Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);  // 파일복사
+            if (isPrecompressible(filename)) {
+                precompress(target);
+            }
             return "uploads/" + filename;  //   uploads/ 파일
         } catch (IOException e) {
             throw new RuntimeException("파일 업로드 실패", e);
         }
     }
+
+    private static boolean isPrecompressible(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot >= 0 && PRECOMPRESS_EXTENSIONS.contains(filename.substring(dot + 1).toLowerCase());
+    }
+
+    // 원본 옆에 <파일>.gz 저장
+    private static void precompress(Path target) throws IOException {
+        Path gz = target.resolveSibling(target.getFileName() + ".gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gz))) {
+            Files.copy(target, out);
+        }
+    }
 }
@@ -0,0 +1,22 @@
+-- GCRA (Generic Cell Rate Algorithm) 1회 요청
+-- KEYS[1] 제한 키
+-- ARGV[1] 요청 간격(ms) = 기간 / 허용 수 , ARGV[2] 버스트 허용치(ms) = 간격 * (버스트 - 1)
+-- return  0 허용 / 그외 다시 시도까지 대기(ms)
+local interval = math.max(tonumber(ARGV[1]), 1)  -- PX 는 1 이상
+local tolerance = tonumber(ARGV[2])
+
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+local tat = tonumber(redis.call('GET', KEYS[1]))
+if not tat or tat < now then
+  tat = now
+end
+
+if tat - now > tolerance then
+  return tat - now - tolerance
+end
+
+tat = tat + interval
+redis.call('SET', KEYS[1], string.format('%d', tat), 'PX', tat - now)
+return 0
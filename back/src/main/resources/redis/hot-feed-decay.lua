@@ -0,0 +1,25 @@
+-- 인기 피드 감쇠 (마지막 감쇠 이후 경과시간만큼 반감기로 모든 점수에 곱함)
+-- KEYS[1] 인기 피드 ZSET , KEYS[2] 마지막 감쇠 시각(ms)
+-- ARGV[1] 반감기(ms) , ARGV[2] 최소 점수 (미만이면 제거) , ARGV[3] 최대 게시글 수
+-- return  제거한 게시글 수
+-- 여러 노드가 동시에 실행해도 경과시간 기준이라 두번 감쇠되지 않음
+local halfLife = tonumber(ARGV[1])
+local minScore = ARGV[2]
+local maxSize = tonumber(ARGV[3])
+
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+local last = tonumber(redis.call('GET', KEYS[2])) or now
+if now > last then
+  local factor = math.pow(0.5, (now - last) / halfLife)
+  redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', tostring(factor))
+end
+redis.call('SET', KEYS[2], tostring(math.max(now, last)))
+
+local removed = redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. minScore)
+local size = redis.call('ZCARD', KEYS[1])
+if size > maxSize then
+  removed = removed + redis.call('ZREMRANGEBYRANK', KEYS[1], 0, size - maxSize - 1)
+end
+return removed
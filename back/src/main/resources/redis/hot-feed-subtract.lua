@@ -0,0 +1,16 @@
+-- 인기 피드 점수 빼기 (좋아요 취소 , 댓글 / 리트윗 삭제)
+-- KEYS[1] 인기 피드 ZSET
+-- ARGV[1] 게시글 ID , ARGV[2] 뺄 가중치 , ARGV[3] 최소 점수 (미만이면 제거)
+-- return  1 빼거나 제거함 / 0 순위에 없음 (감쇠로 이미 제거된 게시글 - 음수 점수로 다시 넣지 않음)
+-- 가중치는 감쇠 전 값이라 오래된 반응을 빼면 점수보다 클 수 있음 → 0 아래로 내려가면 제거
+local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not score then
+  return 0
+end
+local left = tonumber(score) - tonumber(ARGV[2])
+if left < tonumber(ARGV[3]) then
+  redis.call('ZREM', KEYS[1], ARGV[1])
+else
+  redis.call('ZADD', KEYS[1], tostring(left), ARGV[1])
+end
+return 1
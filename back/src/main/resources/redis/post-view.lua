@@ -0,0 +1,17 @@
+-- 게시글 조회 1회
+-- KEYS[1] 조회수 (post:views:<id>) , KEYS[2] 순 방문자 HyperLogLog (post:viewers:<id>) , KEYS[3] flush 대상 SET
+-- ARGV[1] 방문자 해시 , ARGV[2] 조회수 ttl(초) , ARGV[3] 게시글 ID , ARGV[4] 키가 없을 때 이어서 셀 DB 조회수 (모르면 '')
+-- ARGV[5] 순 방문자 ttl(초)
+-- return  기록 후 조회수 / -1 조회수 키가 없고 ARGV[4] 도 없음 → DB 값을 읽어서 다시 호출 (아무것도 기록 안함)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+  if ARGV[4] == '' then
+    return -1
+  end
+  redis.call('SET', KEYS[1], ARGV[4])  -- 스크립트 안이라 그 사이 다른 조회가 끼어들 수 없음
+end
+local views = redis.call('INCR', KEYS[1])
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+redis.call('PFADD', KEYS[2], ARGV[1])
+redis.call('EXPIRE', KEYS[2], ARGV[5])  -- 조회마다 연장 (오래 조회 없는 글만 만료)
+redis.call('SADD', KEYS[3], ARGV[3])
+return views
@@ -0,0 +1,42 @@
+-- 재발급 : refresh 토큰 회전 (확인 + 교체를 한번에)
+-- KEYS[1] refresh:sessions:<userId>
+-- ARGV[1] familyId , ARGV[2] 제출된 jti , ARGV[3] 새 jti , ARGV[4] ttl(초) , ARGV[5] 유예시간(ms)
+-- return  1 회전 성공 / 2 방금 회전된 토큰(동시 재발급, 유예) / 0 없는 세션 / -1 재사용 감지 → 패밀리 폐기
+local prevField = ARGV[1] .. ':prev'
+local expField = ARGV[1] .. ':exp'
+
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+-- 만료된 패밀리 정리 (로그아웃 없이 버려진 기기) - 키 TTL 은 살아있는 다른 기기가 계속 연장하므로
+local fields = redis.call('HGETALL', KEYS[1])
+for i = 1, #fields, 2 do
+  local sep = string.find(fields[i], ':exp', 1, true)
+  if sep and tonumber(fields[i + 1]) < now then
+    local family = string.sub(fields[i], 1, sep - 1)
+    redis.call('HDEL', KEYS[1], family, family .. ':prev', fields[i])
+  end
+end
+
+local cur = redis.call('HGET', KEYS[1], ARGV[1])
+if not cur then
+  return 0
+end
+
+if cur == ARGV[2] then
+  redis.call('HSET', KEYS[1], ARGV[1], ARGV[3], prevField, ARGV[2] .. '|' .. now, expField, now + tonumber(ARGV[4]) * 1000)
+  redis.call('EXPIRE', KEYS[1], ARGV[4])
+  return 1
+end
+
+-- 직전 토큰이 유예시간 안에 다시 온 경우 (탭 여러개에서 동시에 재발급)
+local prev = redis.call('HGET', KEYS[1], prevField)
+if prev then
+  local sep = string.find(prev, '|', 1, true)
+  if string.sub(prev, 1, sep - 1) == ARGV[2] and now - tonumber(string.sub(prev, sep + 1)) <= tonumber(ARGV[5]) then
+    return 2
+  end
+end
+
+redis.call('HDEL', KEYS[1], ARGV[1], prevField, expField)
+return -1
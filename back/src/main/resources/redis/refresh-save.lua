@@ -0,0 +1,20 @@
+-- 로그인 : 새 기기(패밀리) 세션 저장
+-- KEYS[1] refresh:sessions:<userId>   (hash  familyId -> 현재 refresh jti , familyId:exp -> 만료시각(ms))
+-- ARGV[1] familyId , ARGV[2] jti , ARGV[3] ttl(초)
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+-- 만료된 패밀리 정리 (로그아웃 없이 버려진 기기) - 키 TTL 은 살아있는 다른 기기가 계속 연장하므로
+local fields = redis.call('HGETALL', KEYS[1])
+for i = 1, #fields, 2 do
+  local sep = string.find(fields[i], ':exp', 1, true)
+  if sep and tonumber(fields[i + 1]) < now then
+    local family = string.sub(fields[i], 1, sep - 1)
+    redis.call('HDEL', KEYS[1], family, family .. ':prev', fields[i])
+  end
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2], ARGV[1] .. ':exp', now + tonumber(ARGV[3]) * 1000)
+redis.call('HDEL', KEYS[1], ARGV[1] .. ':prev')
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+return 1
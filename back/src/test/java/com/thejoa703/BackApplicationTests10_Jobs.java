@@ -0,0 +1,354 @@
+package com.thejoa703;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.thejoa703.cache.HotFeed;
+import com.thejoa703.dto.request.CommentRequestDto;
+import com.thejoa703.dto.request.FollowRequestDto;
+import com.thejoa703.dto.request.LikeRequestDto;
+import com.thejoa703.dto.request.PostRequestDto;
+import com.thejoa703.dto.request.UserRequestDto;
+import com.thejoa703.dto.response.CommentResponseDto;
+import com.thejoa703.dto.response.PostResponseDto;
+import com.thejoa703.dto.response.UserResponseDto;
+import com.thejoa703.entity.AccountDeletion;
+import com.thejoa703.job.AccountDeletionJob;
+import com.thejoa703.dto.response.FollowSuggestionResponseDto;
+import com.thejoa703.job.FollowSuggestionJob;
+import com.thejoa703.job.PostArchiveJob;
+import com.thejoa703.job.PostViewFlushJob;
+import com.thejoa703.repository.AccountDeletionRepository;
+import com.thejoa703.service.AppUserService;
+import com.thejoa703.service.CommentService;
+import com.thejoa703.service.FollowService;
+import com.thejoa703.service.PostLikeService;
+import com.thejoa703.service.PostService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 주기 작업 테스트
+ * - 삭제된 게시글 / 댓글 스레드 보관 (PostArchiveJob)
+ * - 회원 탈퇴 (AccountDeletionJob)
+ * - 조회수 flush (PostViewFlushJob)
+ * - 인기 피드 점수 / 감쇠 (HotFeed , HotFeedDecayJob)
+ * - 팔로우 추천 (FollowSuggestionJob + 팔로우 증분)
+ * - 월별 파티션 (PartitionMigration 으로 한번 변환 , 여기서는 결과만 확인)
+ */
+@SpringBootTest(properties = "app.hot-feed.key=" + BackApplicationTests10_Jobs.HOT_KEY)
+@Transactional
+class BackApplicationTests10_Jobs {
+
+	static final String HOT_KEY = "test:feed:hot";  // 공유 feed:hot / 감쇠 시각을 건드리지 않도록
+
+	@Autowired private AppUserService   appUserSerivce;
+	@Autowired private PostService      postService;
+	@Autowired private CommentService   commentService;
+	@Autowired private FollowService    followService;
+	@Autowired private PostLikeService  postLikeService;
+	@Autowired private PostArchiveJob   postArchiveJob;
+	@Autowired private AccountDeletionJob accountDeletionJob;
+	@Autowired private PostViewFlushJob postViewFlushJob;
+	@Autowired private HotFeed          hotFeed;
+	@Autowired private FollowSuggestionJob followSuggestionJob;
+	@Autowired private StringRedisTemplate redisTemplate;
+	@Autowired private AccountDeletionRepository accountDeletionRepository;
+	@Autowired private JdbcTemplate     jdbcTemplate;
+	@Autowired private EntityManager    entityManager;
+
+	private UserResponseDto user;
+	private PostResponseDto post;
+	private final List<Long> suggested = new ArrayList<>();  // 팔로우 추천 키를 만든 사용자
+
+	@BeforeEach
+	void setup() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		user = appUserSerivce.signup(new UserRequestDto("job" + suffix + "@test.com", "pass123", "job" + suffix, "local"), null);
+		post = postService.createPost(user.getId(), new PostRequestDto("보관 테스트 게시글", "#archive"), null);
+	}
+
+	// 공유 Redis 에 남기지 않음 (조회수 / 순 방문자 / flush 대상 , 테스트용 인기 피드 , 팔로우 추천)
+	@AfterEach
+	void cleanupRedis() {
+		redisTemplate.delete(List.of("post:views:" + post.getId(), "post:viewers:" + post.getId(), HOT_KEY, HOT_KEY + ":decayed-at"));
+		redisTemplate.delete(suggested.stream().map(id -> "suggest:follow:" + id).toList());
+		redisTemplate.opsForSet().remove("post:views:dirty", String.valueOf(post.getId()));
+	}
+
+	@Test
+	@DisplayName("■ 보관 - 삭제된 게시글은 댓글 , 해시태그 연결과 함께 *_ARCHIVE 로 , 살아있는 글은 그대로")
+	void archiveDeletedPost() {
+		PostResponseDto live = postService.createPost(user.getId(), new PostRequestDto("살아있는 게시글", "#archive"), null);
+		commentService.createComment(user.getId(), new CommentRequestDto(post.getId(), "삭제될 글의 댓글"));
+		postService.deletePost(user.getId(), post.getId());
+		entityManager.flush();
+		entityManager.clear();
+
+		// 방금 삭제한 글도 대상이 되도록 cutoff 를 미래로
+		PostArchiveJob.Result result = postArchiveJob.archive(LocalDateTime.now().plusMinutes(1));
+		assertThat(result.posts()).isGreaterThanOrEqualTo(1);
+
+		assertThat(count("POSTS", "ID", post.getId())).isZero();
+		assertThat(count("POSTS_ARCHIVE", "ID", post.getId())).isEqualTo(1);
+		assertThat(count("COMMENTS_ARCHIVE", "POST_ID", post.getId())).isEqualTo(1);
+		assertThat(count("POST_HASHTAG_ARCHIVE", "POST_ID", post.getId())).isEqualTo(1);
+		assertThat(count("POSTS", "ID", live.getId())).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("■ 보관 - 댓글 스레드는 답글까지 모두 삭제된 경우만")
+	void archiveDeadThread() {
+		CommentResponseDto dead = commentService.createComment(user.getId(), new CommentRequestDto(post.getId(), "삭제될 댓글"));
+		CommentResponseDto alive = commentService.createComment(user.getId(), new CommentRequestDto(post.getId(), "삭제될 댓글 (답글 있음)"));
+		commentService.createComment(user.getId(), new CommentRequestDto(post.getId(), "살아있는 답글", alive.getId()));
+		commentService.deleteComment(user.getId(), dead.getId());
+		commentService.deleteComment(user.getId(), alive.getId());
+		entityManager.flush();
+		entityManager.clear();
+
+		postArchiveJob.archive(LocalDateTime.now().plusMinutes(1));
+
+		assertThat(count("COMMENTS_ARCHIVE", "ID", dead.getId())).isEqualTo(1);
+		assertThat(count("COMMENTS", "ID", alive.getId())).isEqualTo(1);  // 답글이 살아있어 남음
+		assertThat(commentService.countComments(post.getId())).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("■ 탈퇴 - 바로 로그인/조회 불가 (탈퇴 대기) , 작업이 글/댓글/팔로우/좋아요를 나눠서 삭제")
+	void accountDeletion() {
+		UserResponseDto other = appUserSerivce.signup(new UserRequestDto("jobo" + UUID.randomUUID() + "@test.com", "pass123",
+				"jobo" + UUID.randomUUID().toString().substring(0, 8), "local"), null);
+		followService.follow(other.getId(), new FollowRequestDto(user.getId()));
+		postLikeService.addLike(other.getId(), new LikeRequestDto(post.getId()));
+		commentService.createComment(other.getId(), new CommentRequestDto(post.getId(), "다른 사람 댓글"));
+		PostResponseDto otherPost = postService.createPost(other.getId(), new PostRequestDto("다른 사람 글", null), null);
+		commentService.createComment(user.getId(), new CommentRequestDto(otherPost.getId(), "탈퇴할 사람 댓글"));
+
+		appUserSerivce.deleteById(user.getId());
+		assertThrows(IllegalArgumentException.class, () -> appUserSerivce.findById(user.getId()));
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(accountDeletionJob.process(user.getId())).isTrue();
+		assertThat(accountDeletionJob.process(user.getId())).isFalse();  // 이미 처리됨
+		entityManager.clear();
+
+		assertThat(count("APPUSER", "APP_USER_ID", user.getId())).isZero();
+		assertThat(count("POSTS", "APP_USER_ID", user.getId())).isZero();
+		assertThat(count("COMMENTS", "POST_ID", post.getId())).isZero();
+		assertThat(count("COMMENTS", "APP_USER_ID", user.getId())).isZero();
+		assertThat(count("FOLLOWS", "FOLLOWEE_ID", user.getId())).isZero();
+		assertThat(count("POSTS", "ID", otherPost.getId())).isEqualTo(1);  // 다른 사람 글은 그대로
+
+		AccountDeletion deletion = accountDeletionRepository.findById(user.getId()).orElseThrow();
+		assertThat(deletion.getStatus()).isEqualTo(AccountDeletion.Status.DONE);
+		assertThat(deletion.getStep()).isEqualTo("APPUSER");
+		assertThat(deletion.getDeletedRows()).isGreaterThanOrEqualTo(6);
+	}
+
+	@Test
+	@DisplayName("■ 탈퇴 - 탈퇴한 사람 댓글에 달린 다른 사람 답글은 남는 댓글 아래로 다시 엮임")
+	void accountDeletionReroot() {
+		UserResponseDto other = signup("jobr");
+		PostResponseDto otherPost = postService.createPost(other.getId(), new PostRequestDto("다른 사람 글", null), null);
+		CommentResponseDto root = commentService.createComment(user.getId(), new CommentRequestDto(otherPost.getId(), "탈퇴할 사람 댓글"));
+		CommentResponseDto a = commentService.createComment(other.getId(), new CommentRequestDto(otherPost.getId(), "답글", root.getId()));
+		CommentResponseDto b = commentService.createComment(other.getId(), new CommentRequestDto(otherPost.getId(), "답글의 답글", a.getId()));
+		CommentResponseDto mine = commentService.createComment(user.getId(), new CommentRequestDto(otherPost.getId(), "탈퇴할 사람 답글", a.getId()));
+		CommentResponseDto c = commentService.createComment(other.getId(), new CommentRequestDto(otherPost.getId(), "탈퇴할 사람 답글의 답글", mine.getId()));
+
+		appUserSerivce.deleteById(user.getId());
+		entityManager.flush();
+		entityManager.clear();
+		assertThat(accountDeletionJob.process(user.getId())).isTrue();
+
+		// a 가 새 최상위 , b / c 는 a 의 스레드 (c 의 부모는 삭제된 답글 대신 a)
+		assertThat(thread(a.getId())).containsExactly(null, null, null);
+		assertThat(thread(b.getId())).containsExactly(a.getId(), a.getId(), "000001");
+		assertThat(thread(c.getId())).containsExactly(a.getId(), a.getId(), "000002.000001");
+		assertThat(count("COMMENTS", "ROOT_ID", root.getId())).isZero();
+	}
+
+	@Test
+	@DisplayName("■ 조회수 - 조회는 Redis 에만 (INCR + HyperLogLog) , flush 작업이 POST_VIEWS 로")
+	void postViews() {
+		postService.recordView(post.getId(), "u:" + user.getId());
+		postService.recordView(post.getId(), "u:" + user.getId());
+		postService.recordView(post.getId(), "ip:10.0.0.1");
+
+		PostResponseDto viewed = postService.getPost(post.getId());
+		assertThat(viewed.getViewCount()).isEqualTo(3);
+		assertThat(viewed.getUniqueViewers()).isEqualTo(2);
+		assertThat(count("POST_VIEWS", "POST_ID", post.getId())).isZero();  // 조회마다 DB 쓰기 없음
+
+		assertThat(postViewFlushJob.flush()).isGreaterThanOrEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("SELECT VIEW_COUNT FROM POST_VIEWS WHERE POST_ID = ?", Long.class, post.getId())).isEqualTo(3);
+		assertThat(jdbcTemplate.queryForObject("SELECT UNIQUE_VIEWERS FROM POST_VIEWS WHERE POST_ID = ?", Long.class, post.getId())).isEqualTo(2);
+
+		entityManager.flush();  // MyBatis 피드 조회 전
+		assertThat(postService.getAllPostsPaged(1, 10)).filteredOn(p -> p.getId().equals(post.getId()))
+				.singleElement().extracting(PostResponseDto::getViewCount).isEqualTo(3L);
+
+		// 조회수 키만 만료 → DB 값에서 이어서 , 순 방문자는 그대로 이어서 셈 (순 방문자 ttl 이 더 김)
+		assertThat(redisTemplate.getExpire("post:viewers:" + post.getId()))
+				.isGreaterThan(redisTemplate.getExpire("post:views:" + post.getId()));
+		redisTemplate.delete("post:views:" + post.getId());
+		postService.recordView(post.getId(), "ip:10.0.0.2");
+		PostResponseDto again = postService.getPost(post.getId());
+		assertThat(again.getViewCount()).isEqualTo(4);
+		assertThat(again.getUniqueViewers()).isEqualTo(3);
+
+		// 삭제하면 키도 삭제
+		postService.deletePost(user.getId(), post.getId());
+		assertThat(redisTemplate.hasKey("post:views:" + post.getId())).isFalse();
+		assertThat(redisTemplate.hasKey("post:viewers:" + post.getId())).isFalse();
+	}
+
+	@Test
+	@DisplayName("■ 인기 피드 - 좋아요/댓글/리트윗마다 점수 증가 , 취소하면 감소 , 삭제하면 순위에서 제거")
+	void hotFeed() {
+		UserResponseDto other = appUserSerivce.signup(new UserRequestDto("hot" + UUID.randomUUID() + "@test.com", "pass123",
+				"hot" + UUID.randomUUID().toString().substring(0, 8), "local"), null);
+		postLikeService.addLike(other.getId(), new LikeRequestDto(post.getId()));
+		postLikeService.addLike(other.getId(), new LikeRequestDto(post.getId()));  // 중복 좋아요는 점수 없음
+		commentService.createComment(other.getId(), new CommentRequestDto(post.getId(), "인기 댓글"));
+		assertThat(score(post.getId())).isEqualTo(3.0);  // 좋아요 1 + 댓글 2
+
+		postLikeService.removeLike(other.getId(), post.getId());
+		assertThat(score(post.getId())).isEqualTo(2.0);
+
+		// 순위에 없는 게시글은 빼도 다시 들어가지 않음 , 점수보다 많이 빼면 (감쇠된 점수) 제거
+		hotFeed.subtract(-2L, HotFeed.Signal.RETWEET);
+		assertThat(score(-2L)).isNull();
+		redisTemplate.opsForZSet().add(HOT_KEY, "-2", 1.5);
+		hotFeed.subtract(-2L, HotFeed.Signal.RETWEET);
+		assertThat(score(-2L)).isNull();
+
+		// 순위가 있는 페이지에서 게시글 조회
+		entityManager.flush();  // MyBatis 조회 전
+		long rank = redisTemplate.opsForZSet().reverseRank(HOT_KEY, String.valueOf(post.getId()));
+		int page = (int) (rank / 10) + 1;
+		assertThat(postService.getHotPostsPaged(page, 10)).extracting(PostResponseDto::getId).contains(post.getId());
+
+		// 조회되지 않는 ID (replica 지연 등) 는 건너뛰기만 , 순위에서 지우지 않음 / page , size 는 범위로 맞춤
+		redisTemplate.opsForZSet().add(HOT_KEY, "-1", 1000);
+		assertThat(postService.getHotPostsPaged(0, 1000)).extracting(PostResponseDto::getId)
+				.doesNotContain(-1L).hasSizeLessThanOrEqualTo(100);
+		assertThat(score(-1L)).isEqualTo(1000.0);
+
+		// 마지막 감쇠 후 오래 지났으면 최소 점수 미만으로 제거될 수 있음
+		hotFeed.decay();
+		Double decayed = score(post.getId());
+		assertThat(decayed == null || decayed <= 2.0).isTrue();
+		hotFeed.add(post.getId(), HotFeed.Signal.LIKE);  // 삭제 확인용
+
+		postService.deletePost(user.getId(), post.getId());
+		assertThat(score(post.getId())).isNull();
+	}
+
+	@Test
+	@DisplayName("■ 팔로우 추천 - 내가 팔로우하는 사람들이 팔로우하는 사람 (이미 팔로우 / 나 자신 제외) , 팔로우하면 증분 반영")
+	void followSuggestions() {
+		UserResponseDto b = signup("fb");
+		UserResponseDto c = signup("fc");
+		UserResponseDto d = signup("fd");
+		UserResponseDto e = signup("fe");
+		followService.follow(user.getId(), new FollowRequestDto(b.getId()));
+		followService.follow(user.getId(), new FollowRequestDto(d.getId()));
+		followService.follow(b.getId(), new FollowRequestDto(c.getId()));
+		followService.follow(b.getId(), new FollowRequestDto(d.getId()));
+		followService.follow(b.getId(), new FollowRequestDto(user.getId()));
+		followService.follow(d.getId(), new FollowRequestDto(c.getId()));
+		followService.follow(c.getId(), new FollowRequestDto(e.getId()));
+
+		suggested.addAll(List.of(user.getId(), b.getId(), c.getId(), d.getId(), e.getId()));
+		// 테스트 사용자만 갱신 (공유 DB 전체 사용자 키를 쓰지 않음) - e 는 팔로우가 없어 키 없음
+		assertThat(followSuggestionJob.refresh(suggested.stream().mapToLong(Long::longValue).toArray())).isEqualTo(5);
+		assertThat(redisTemplate.hasKey("suggest:follow:" + e.getId())).isFalse();
+		List<FollowSuggestionResponseDto> suggestions = followService.getSuggestions(user.getId(), 10);
+		assertThat(suggestions).extracting(FollowSuggestionResponseDto::getUserId).containsExactly(c.getId());  // d 는 이미 팔로우
+		assertThat(suggestions.get(0).getMutualCount()).isEqualTo(2);  // b , d
+
+		// c 를 팔로우 → c 는 빠지고 c 가 팔로우하는 e 추가
+		followService.follow(user.getId(), new FollowRequestDto(c.getId()));
+		assertThat(followService.getSuggestions(user.getId(), 10)).extracting(FollowSuggestionResponseDto::getUserId)
+				.containsExactly(e.getId());
+	}
+
+	@Test
+	@DisplayName("■ 파티션 - POSTS / POST_LIKES 는 월별 파티션 , 이번달 파티션이 미리 만들어져 있고 피드는 그대로")
+	void monthlyPartitions() {
+		String partition = "P_" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
+		for (String table : List.of("POSTS", "POST_LIKES")) {
+			// 변환을 안했거나 파티셔닝 옵션이 없는 DB 면 테이블은 그대로 → 건너뜀
+			assumeTrue(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USER_PART_TABLES WHERE TABLE_NAME = ?", Integer.class, table) > 0);
+			assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM USER_TAB_PARTITIONS WHERE TABLE_NAME = ? AND PARTITION_NAME = ?",
+					Integer.class, table, partition)).isEqualTo(1);
+		}
+		entityManager.flush();  // MyBatis 피드 조회 전
+		assertThat(postService.getAllPostsPaged(1, 10)).extracting(PostResponseDto::getId).contains(post.getId());
+		assertThat(postService.getMyPostsAndRetweetsPaged(user.getId(), 1, 10)).extracting(PostResponseDto::getId).contains(post.getId());
+	}
+
+	@Test
+	@DisplayName("■ 파티션 - 최근 파티션에서 모자라면 이전 파티션에서 이어서 , 최근 글을 넘어선 페이지는 전체에서")
+	void recentFirstContinuation() {
+		UserResponseDto liker = signup("jobl");
+		PostResponseDto recent = postService.createPost(user.getId(), new PostRequestDto("최근 글", null), null);
+		PostResponseDto old = postService.createPost(user.getId(), new PostRequestDto("오래된 글", null), null);
+		for (PostResponseDto p : List.of(post, recent, old)) {
+			postLikeService.addLike(liker.getId(), new LikeRequestDto(p.getId()));
+		}
+		entityManager.flush();
+		jdbcTemplate.update("UPDATE POSTS SET CREATED_AT = CREATED_AT - INTERVAL '1' YEAR WHERE ID = ?", old.getId());
+		entityManager.clear();
+
+		assertThat(postService.getLikedPostsPaged(liker.getId(), 1, 2)).extracting(PostResponseDto::getId)
+				.containsExactlyInAnyOrder(post.getId(), recent.getId());                 // 최근 파티션만으로 채움
+		assertThat(postService.getLikedPostsPaged(liker.getId(), 1, 3)).extracting(PostResponseDto::getId)
+				.endsWith(old.getId()).hasSize(3);                                       // 모자란 1개는 이전 파티션에서
+		assertThat(postService.getLikedPostsPaged(liker.getId(), 2, 2)).extracting(PostResponseDto::getId)
+				.containsExactly(old.getId());                                           // 최근 글을 넘어선 페이지
+		assertThat(postService.getLikedPostsPaged(liker.getId(), 3, 2)).isEmpty();
+	}
+
+	private UserResponseDto signup(String prefix) {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		return appUserSerivce.signup(new UserRequestDto(prefix + suffix + "@test.com", "pass123", prefix + suffix, "local"), null);
+	}
+
+	private Double score(Long postId) {
+		return redisTemplate.opsForZSet().score(HOT_KEY, String.valueOf(postId));
+	}
+
+	// PARENT_ID , ROOT_ID , PATH
+	private List<Object> thread(Long commentId) {
+		return jdbcTemplate.queryForObject("SELECT PARENT_ID, ROOT_ID, PATH FROM COMMENTS WHERE ID = ?",
+				(rs, i) -> Arrays.asList(rs.getObject(1) == null ? null : rs.getLong(1),
+						rs.getObject(2) == null ? null : rs.getLong(2), rs.getString(3)), commentId);
+	}
+
+	private int count(String table, String column, Long id) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Integer.class, id);
+	}
+}
@@ -22,6 +22,7 @@ import com.thejoa703.dto.request.LoginRequest;
 import com.thejoa703.dto.request.PostRequestDto;
 import com.thejoa703.dto.request.RetweetRequestDto;
 import com.thejoa703.dto.request.UserRequestDto;
+import com.thejoa703.dto.response.CommentPageResponseDto;
 import com.thejoa703.dto.response.CommentResponseDto;
 import com.thejoa703.dto.response.FollowResponseDto;
 import com.thejoa703.dto.response.LikeResponseDto;
@@ -148,6 +149,53 @@ class BackApplicationTests3_Service {
 	}
 
 
+	@Test
+	@DisplayName("■ CommentService-커서 페이징 ")
+	void testCommentCursorPaging() { 
+		// 댓글 5개 작성
+		for (int i = 1; i <= 5; i++) {
+			commentService.createComment(user2Dto.getId(), new CommentRequestDto(post.getId(), "댓글" + i));
+		}
+		// 첫페이지 2개 + 다음커서
+		CommentPageResponseDto page1 = commentService.getCommentsPage(post.getId(), null, 2);
+		assertThat(page1.getComments()).extracting(CommentResponseDto::getContent).containsExactly("댓글1", "댓글2");
+		assertThat(page1.isHasNext()).isTrue();
+		
+		// 다음페이지 ... 마지막페이지
+		CommentPageResponseDto page2 = commentService.getCommentsPage(post.getId(), page1.getNextCursor(), 2);
+		assertThat(page2.getComments()).extracting(CommentResponseDto::getContent).containsExactly("댓글3", "댓글4");
+		CommentPageResponseDto page3 = commentService.getCommentsPage(post.getId(), page2.getNextCursor(), 2);
+		assertThat(page3.getComments()).extracting(CommentResponseDto::getContent).containsExactly("댓글5");
+		assertThat(page3.isHasNext()).isFalse();
+		assertThat(page3.getNextCursor()).isNull();
+	}
+
+
+	@Test
+	@DisplayName("■ CommentService-답글 스레드 ")
+	void testCommentReplies() { 
+		CommentResponseDto root = commentService.createComment(user2Dto.getId(), new CommentRequestDto(post.getId(), "댓글"));
+		CommentResponseDto a  = commentService.createComment(user1Dto.getId(), new CommentRequestDto(post.getId(), "답글A", root.getId()));
+		commentService.createComment(user2Dto.getId(), new CommentRequestDto(post.getId(), "답글B", root.getId()));
+		commentService.createComment(user2Dto.getId(), new CommentRequestDto(post.getId(), "답글A-1", a.getId()));
+		
+		// 최상위 목록에는 답글 제외 + 비정규화 답글수
+		List<CommentResponseDto> roots = commentService.getCommentsByPost(post.getId());
+		assertThat(roots).hasSize(1);
+		assertThat(roots.get(0).getReplyCount()).isEqualTo(2);
+		
+		// 스레드는 깊이 우선 순서, 커서로 더보기
+		CommentPageResponseDto page1 = commentService.getReplies(root.getId(), null, 2);
+		assertThat(page1.getComments()).extracting(CommentResponseDto::getContent).containsExactly("답글A", "답글A-1");
+		CommentPageResponseDto page2 = commentService.getReplies(root.getId(), page1.getNextCursor(), 2);
+		assertThat(page2.getComments()).extracting(CommentResponseDto::getContent).containsExactly("답글B");
+		
+		// 중간 답글 아래만 조회
+		assertThat(commentService.getReplies(a.getId(), null, 10).getComments())
+			.extracting(CommentResponseDto::getContent).containsExactly("답글A-1");
+	}
+
+
 	// ---------------------------------------------------------------------
     // ■ PostLikeService 테스트
     // ---------------------------------------------------------------------
@@ -178,6 +226,12 @@ class BackApplicationTests3_Service {
         FollowRequestDto followReq = new FollowRequestDto(user2Dto.getId());
         FollowResponseDto follow = followService.follow(user1Dto.getId(), followReq);  //팔로워, 팔로위
         assertThat(follow.getFolloweeId()).isEqualTo(user2Dto.getId());
+        assertThat(follow.getId()).isNotNull();         // MERGE 후 다시 조회한 행
+        assertThat(follow.getCreatedAt()).isNotNull();
+        	//다시 팔로우 → 같은 행 (idempotent)
+        assertThat(followService.follow(user1Dto.getId(), followReq).getId()).isEqualTo(follow.getId());
+        	//없는 사용자 팔로우 → FK 제약조건 이름으로 판별
+        assertThrows(IllegalArgumentException.class, () -> followService.follow(user1Dto.getId(), new FollowRequestDto(-1L)));
         	//자기자신 팔로우 → 예외
         FollowRequestDto selfFollow = new FollowRequestDto(user1Dto.getId());
         assertThrows(IllegalStateException.class, () -> followService.follow(user1Dto.getId(), selfFollow));
@@ -200,6 +254,8 @@ class BackApplicationTests3_Service {
 	    assertThat(retweet.getOriginalPostId()).isEqualTo(post.getId()); //post
 	    assertThat(retweet.getUserId()).isEqualTo(user1Dto.getId());   //user1Dto
 	    assertThat(retweet.getRetweetCount()).isEqualTo(1);  // 리트윗수가 1개야
+	    assertThat(retweet.getId()).isNotNull();          // MERGE 후 다시 조회한 행
+	    assertThat(retweet.getCreatedAt()).isNotNull();
 	    // 중복리트윗 → 예외
 	    assertThrows(IllegalStateException.class,
 	        () -> retweetService.addRetweet(user1Dto.getId(), retweetReq));
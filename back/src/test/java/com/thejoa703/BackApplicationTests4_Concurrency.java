@@ -0,0 +1,130 @@
+package com.thejoa703;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.thejoa703.dto.request.FollowRequestDto;
+import com.thejoa703.dto.request.LikeRequestDto;
+import com.thejoa703.dto.request.PostRequestDto;
+import com.thejoa703.dto.request.RetweetRequestDto;
+import com.thejoa703.dto.request.UserRequestDto;
+import com.thejoa703.dto.response.PostResponseDto;
+import com.thejoa703.dto.response.UserResponseDto;
+import com.thejoa703.job.AccountDeletionJob;
+import com.thejoa703.repository.AccountDeletionRepository;
+import com.thejoa703.service.AppUserService;
+import com.thejoa703.service.FollowService;
+import com.thejoa703.service.PostLikeService;
+import com.thejoa703.service.PostService;
+import com.thejoa703.service.RetweetService;
+
+/**
+ * 동시요청(더블클릭) 테스트 - MERGE upsert
+ * - 요청마다 각자 트랜잭션을 커밋해야 하므로 클래스에 @Transactional 을 붙이지 않음
+ * - 테스트 후 생성한 사용자 삭제 - 탈퇴 요청 후 탈퇴 작업을 바로 실행 (게시글/좋아요/리트윗/팔로우 , 탈퇴 기록까지)
+ */
+@SpringBootTest
+class BackApplicationTests4_Concurrency {
+
+	private static final int THREADS = 8;
+
+	@Autowired  private AppUserService    appUserSerivce;
+	@Autowired  private PostService       postService;
+	@Autowired  private PostLikeService   postLikeService;
+	@Autowired  private FollowService     followService;
+	@Autowired  private RetweetService    retweetService;
+	@Autowired  private AccountDeletionJob        accountDeletionJob;
+	@Autowired  private AccountDeletionRepository deletionRepository;
+
+	private UserResponseDto user1Dto;
+	private UserResponseDto user2Dto;
+	private PostResponseDto post;
+
+	@BeforeEach
+	void setup() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		user1Dto = appUserSerivce.signup(new UserRequestDto("c1" + suffix + "@test.com", "pass123", "c1" + suffix, "local"), null);
+		user2Dto = appUserSerivce.signup(new UserRequestDto("c2" + suffix + "@test.com", "pass123", "c2" + suffix, "local"), null);
+		post = postService.createPost(user1Dto.getId(), new PostRequestDto("동시성 테스트 게시글", null), null);
+	}
+
+	@AfterEach
+	void cleanup() {
+		for (Long userId : List.of(user2Dto.getId(), user1Dto.getId())) {
+			appUserSerivce.deleteById(userId);
+			assertThat(accountDeletionJob.process(userId)).isTrue();
+			deletionRepository.deleteById(userId);
+		}
+	}
+
+	/** 같은 작업을 THREADS 개 스레드에서 동시에 실행, 예외 발생 수 반환 */
+	private int runConcurrently(Runnable task) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger failures = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(pool.submit(() -> {
+				start.await();
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+					failures.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> f : futures) {
+			f.get(30, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+		return failures.get();
+	}
+
+	@Test
+	@DisplayName("■ 좋아요 동시요청 - 예외없이 1건만 저장")
+	void concurrentLike() throws Exception {
+		LikeRequestDto likeReq = new LikeRequestDto(post.getId());
+		int failures = runConcurrently(() -> postLikeService.addLike(user2Dto.getId(), likeReq));
+
+		assertThat(failures).isZero();
+		assertThat(postLikeService.countLikes(post.getId())).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("■ 리트윗 동시요청 - 1건만 성공, 나머지는 중복 리트윗 예외")
+	void concurrentRetweet() throws Exception {
+		RetweetRequestDto retweetReq = new RetweetRequestDto(post.getId());
+		int failures = runConcurrently(() -> retweetService.addRetweet(user2Dto.getId(), retweetReq));
+
+		assertThat(failures).isEqualTo(THREADS - 1);
+		assertThat(retweetService.countRetweets(post.getId())).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("■ 팔로우 동시요청 - 예외없이 1건만 저장")
+	void concurrentFollow() throws Exception {
+		FollowRequestDto followReq = new FollowRequestDto(user2Dto.getId());
+		int failures = runConcurrently(() -> followService.follow(user1Dto.getId(), followReq));
+
+		assertThat(failures).isZero();
+		assertThat(followService.countFollowings(user1Dto.getId())).isEqualTo(1);
+	}
+}
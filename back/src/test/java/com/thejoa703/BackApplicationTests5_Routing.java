@@ -0,0 +1,146 @@
+package com.thejoa703;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.thejoa703.config.RoutingDataSource;
+import com.thejoa703.oauth2.CustomOAuth2User;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 테스트
+ * - PRIMARY / REPLICA 두 DB 대신 mock DataSource 사용 (DB 없이 실행)
+ */
+class BackApplicationTests5_Routing {
+
+	private DataSource primary;
+	private DataSource replica;
+	private Connection primaryCon;
+	private Connection replicaCon;
+	private RoutingDataSource routing;
+
+	@BeforeEach
+	void setup() throws SQLException {
+		primary = mock(DataSource.class);
+		replica = mock(DataSource.class);
+		primaryCon = mock(Connection.class);
+		replicaCon = mock(Connection.class);
+		when(primary.getConnection()).thenReturn(primaryCon);
+		when(replica.getConnection()).thenReturn(replicaCon);
+
+		routing = new RoutingDataSource(primary, replica, 5, 30);
+		routing.afterPropertiesSet();
+	}
+
+	@AfterEach
+	void cleanup() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		RequestContextHolder.resetRequestAttributes();
+		SecurityContextHolder.clearContext();
+	}
+
+	private void login(Long userId) {
+		CustomOAuth2User user = new CustomOAuth2User(userId, "ROLE_USER");
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+	}
+
+	@Test
+	@DisplayName("■ readOnly 트랜잭션은 REPLICA, 쓰기 트랜잭션은 PRIMARY")
+	void routeByReadOnly() throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertThat(routing.getConnection()).isSameAs(replicaCon);
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		assertThat(routing.getConnection()).isSameAs(primaryCon);
+	}
+
+	// 쓰기 트랜잭션 하나 (커넥션 획득 → 커밋/롤백)
+	private void write(boolean commit) throws SQLException {
+		TransactionSynchronizationManager.initSynchronization();
+		routing.getConnection();
+		for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+			if (commit) {
+				sync.afterCommit();
+			}
+			sync.afterCompletion(commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+		}
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	@DisplayName("■ 쓰기한 사용자는 잠시 PRIMARY 에서 읽음 (read-your-writes)")
+	void readYourWrites() throws SQLException {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		login(1L);
+		write(true);  // 요청 스레드의 쓰기 트랜잭션 커밋
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertThat(routing.getConnection()).isSameAs(primaryCon);
+
+		login(2L);  // 다른 사용자는 REPLICA
+		assertThat(routing.getConnection()).isSameAs(replicaCon);
+	}
+
+	@Test
+	@DisplayName("■ 롤백된 쓰기 , 요청 밖(배치/비동기) 쓰기는 고정하지 않음")
+	void noPinWithoutCommittedRequestWrite() throws SQLException {
+		login(1L);
+		write(true);  // 요청 스레드 아님
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertThat(routing.getConnection()).isSameAs(replicaCon);
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		write(false);  // 롤백
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertThat(routing.getConnection()).isSameAs(replicaCon);
+	}
+
+	@Test
+	@DisplayName("■ onPrimary 구간의 읽기는 PRIMARY (캐시 적재)")
+	void forcePrimaryRead() throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		Connection forced = RoutingDataSource.onPrimary(() -> {
+			try {
+				return routing.getConnection();
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertThat(forced).isSameAs(primaryCon);
+		assertThat(routing.getConnection()).isSameAs(replicaCon);  // 구간 밖은 다시 REPLICA
+	}
+
+	@Test
+	@DisplayName("■ REPLICA 연결 실패시 PRIMARY 로 대체")
+	void replicaFallback() throws SQLException {
+		when(replica.getConnection()).thenThrow(new SQLException("replica down"));
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertThat(routing.getConnection()).isSameAs(primaryCon);
+		assertThat(routing.getConnection()).isSameAs(primaryCon);
+	}
+}
@@ -0,0 +1,123 @@
+package com.thejoa703;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.session.SqlSession;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.thejoa703.dto.request.PostRequestDto;
+import com.thejoa703.dto.request.UserRequestDto;
+import com.thejoa703.dto.response.PostResponseDto;
+import com.thejoa703.dto.response.UserResponseDto;
+import com.thejoa703.mapper.PostFeedMapper;
+import com.thejoa703.repository.PostRepository;
+import com.thejoa703.repository.RetweetRepository;
+import com.thejoa703.service.AppUserService;
+import com.thejoa703.service.PostService;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 피드 조회 비교 : JPA 네이티브 ROWNUM + 지연로딩  vs  MyBatis nested resultMap
+ * - 같은 페이지를 같은 DTO 로 만드는지 확인하고, 소요시간 / Hibernate SQL 수를 로그로 남김
+ * - 테스트 트랜잭션 안에서는 MyBatis 로컬 캐시(세션 단위)가 같은 쿼리를 재사용하므로 매 라운드 비움
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class BackApplicationTests6_FeedBenchmark {
+
+	private static final int POSTS = 30;
+	private static final int PAGE_SIZE = 10;
+	private static final int ROUNDS = 50;
+
+	@Autowired private AppUserService    appUserSerivce;
+	@Autowired private PostService       postService;
+	@Autowired private PostRepository    postRepository;
+	@Autowired private RetweetRepository retweetRepository;
+	@Autowired private PostFeedMapper    postFeedMapper;
+	@Autowired private EntityManager     entityManager;
+	@Autowired private SqlSession        sqlSession;  // 트랜잭션에 묶인 MyBatis 세션 (로컬 캐시 비우기용)
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setup() {
+		UserResponseDto user = appUserSerivce.signup(
+				new UserRequestDto("bench" + UUID.randomUUID() + "@test.com", "pass123", "bench" + UUID.randomUUID().toString().substring(0, 8), "local"), null);
+		for (int i = 0; i < POSTS; i++) {
+			postService.createPost(user.getId(), new PostRequestDto("벤치마크 게시글 " + i, "#bench,#feed" + (i % 3)), null);
+		}
+		entityManager.flush();
+		entityManager.clear();
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+	}
+
+	// 기존 JPA 경로 : 네이티브 쿼리 → 엔티티 → PostResponseDto.from (지연로딩) + 리트윗 count
+	private List<PostResponseDto> jpaPage() {
+		return postRepository.findPostsWithPaging(1, PAGE_SIZE).stream()
+				.map(post -> {
+					PostResponseDto dto = PostResponseDto.from(post);
+					dto.setRetweetCount(retweetRepository.countByOriginalPostId(post.getId()));
+					return dto;
+				})
+				.collect(Collectors.toList());
+	}
+
+	@Test
+	@DisplayName("■ 피드 페이지 - JPA vs MyBatis 결과 동일 + 성능 비교")
+	void compareFeedPage() {
+		// 결과 동일성
+		List<PostResponseDto> jpa = jpaPage();
+		entityManager.clear();
+		List<PostResponseDto> mybatis = postFeedMapper.findFeedPage(1, PAGE_SIZE);
+
+		assertThat(mybatis).extracting(PostResponseDto::getId)
+				.containsExactlyElementsOf(jpa.stream().map(PostResponseDto::getId).toList());
+		for (int i = 0; i < jpa.size(); i++) {
+			assertThat(mybatis.get(i).getAuthorNickname()).isEqualTo(jpa.get(i).getAuthorNickname());
+			assertThat(mybatis.get(i).getHashtags()).containsExactlyInAnyOrderElementsOf(jpa.get(i).getHashtags());
+			assertThat(mybatis.get(i).getImageUrls()).containsExactlyInAnyOrderElementsOf(jpa.get(i).getImageUrls());
+			assertThat(mybatis.get(i).getLikeCount()).isEqualTo(jpa.get(i).getLikeCount());
+			assertThat(mybatis.get(i).getCommentCount()).isEqualTo(jpa.get(i).getCommentCount());
+			assertThat(mybatis.get(i).getRetweetCount()).isEqualTo(jpa.get(i).getRetweetCount());
+		}
+
+		// JPA 경로 (매 라운드 영속성 컨텍스트를 비워서 실제 요청과 같게)
+		statistics.clear();
+		long jpaStart = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++) {
+			jpaPage();
+			entityManager.clear();
+		}
+		long jpaNanos = System.nanoTime() - jpaStart;
+		long jpaStatements = statistics.getPrepareStatementCount();
+
+		// MyBatis 경로 (매 라운드 로컬 캐시를 비워서 실제로 DB 를 조회하게)
+		long mybatisStart = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++) {
+			sqlSession.clearCache();
+			assertThat(postFeedMapper.findFeedPage(1, PAGE_SIZE)).hasSize(PAGE_SIZE);
+		}
+		long mybatisNanos = System.nanoTime() - mybatisStart;
+
+		log.info("[feed benchmark] page={} rounds={} JPA {} ms/page , {} SQL/page | MyBatis {} ms/page , 1 SQL/page",
+				PAGE_SIZE, ROUNDS,
+				String.format("%.2f", jpaNanos / 1e6 / ROUNDS), String.format("%.1f", (double) jpaStatements / ROUNDS),
+				String.format("%.2f", mybatisNanos / 1e6 / ROUNDS));
+
+		assertThat(jpaStatements / ROUNDS).isGreaterThan(1);
+	}
+}
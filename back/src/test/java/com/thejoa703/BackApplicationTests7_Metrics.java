@@ -0,0 +1,123 @@
+package com.thejoa703;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.thejoa703.metrics.SqlBudgetExceededException;
+import com.thejoa703.metrics.SqlCountFilter;
+import com.thejoa703.metrics.SqlStatementCounter;
+import com.thejoa703.metrics.SqlStatementCounter.BudgetMode;
+import com.thejoa703.repository.PostRepository;
+import com.thejoa703.service.PostService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 메트릭 테스트
+ * - 서비스 @Timed , 레파지토리 호출 타이머 , 요청당 SQL 수 , @SqlBudget
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BackApplicationTests7_Metrics {
+
+	@Autowired private MockMvc        mockMvc;
+	@Autowired private MeterRegistry  meterRegistry;
+	@Autowired private PostService    postService;
+	@Autowired private SqlStatementCounter sqlStatementCounter;
+
+	@Test
+	@DisplayName("■ 서비스/레파지토리 메서드별 타이머")
+	void serviceAndRepositoryTimers() {
+		postService.getAllPostsPaged(1, 5);
+
+		Timer service = meterRegistry.find("app.service")
+				.tag("class", PostService.class.getName())
+				.tag("method", "getAllPostsPaged")
+				.timer();
+		assertThat(service).isNotNull();
+		assertThat(service.count()).isGreaterThanOrEqualTo(1);
+
+		postService.getAllPosts();
+		Timer repository = meterRegistry.find("spring.data.repository.invocations")
+				.tag("repository", PostRepository.class.getSimpleName())
+				.timer();
+		assertThat(repository).isNotNull();
+	}
+
+	@Test
+	@DisplayName("■ 요청당 SQL 수 (uri 패턴 태그)")
+	void sqlStatementsPerRequest() throws Exception {
+		mockMvc.perform(get("/api/posts")).andExpect(status().isOk());
+
+		DistributionSummary summary = meterRegistry.find(SqlCountFilter.METRIC_NAME)
+				.tag("method", "GET")
+				.tag("uri", "/api/posts")
+				.summary();
+		assertThat(summary).isNotNull();
+		assertThat(summary.count()).isGreaterThanOrEqualTo(1);
+		assertThat(summary.max()).isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("■ @SqlBudget 엔드포인트 - 예산 이내 (테스트는 FAIL 모드)")
+	void sqlBudgetWithinLimit() throws Exception {
+		mockMvc.perform(get("/api/posts/paged").param("page", "1").param("size", "5")).andExpect(status().isOk());
+
+		assertThat(meterRegistry.find(SqlCountFilter.OVER_BUDGET_METRIC_NAME)
+				.tag("uri", "/api/posts/paged")
+				.counter()).isNull();
+	}
+
+	@Test
+	@DisplayName("■ MyBatis 매퍼 SQL 도 JDBC 단계에서 카운트")
+	void mybatisStatementsCounted() {
+		sqlStatementCounter.start();
+		try {
+			postService.getAllPostsPaged(1, 5);  // MyBatis 피드 (Hibernate SQL 없음)
+			assertThat(sqlStatementCounter.current()).isBetween(1, 2);
+		} finally {
+			sqlStatementCounter.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("■ SQL 예산 초과 - LOG 는 통과 , REJECT 는 예외 , FAIL 은 AssertionError")
+	void sqlBudgetModes() {
+		SqlStatementCounter log = new SqlStatementCounter(BudgetMode.LOG);
+		log.start();
+		log.budget(1, "test");
+		log.inspect("select 1 from dual");
+		log.inspect("select 2 from dual");
+		SqlStatementCounter.Usage usage = log.stop();
+		assertThat(usage.getCount()).isEqualTo(2);
+		assertThat(usage.isOverBudget()).isTrue();
+
+		SqlStatementCounter reject = new SqlStatementCounter(BudgetMode.REJECT);
+		reject.start();
+		reject.budget(1, "test");
+		reject.inspect("select 1 from dual");
+		assertThatThrownBy(() -> reject.inspect("select 2 from dual")).isInstanceOf(SqlBudgetExceededException.class);
+		reject.stop();
+
+		SqlStatementCounter fail = new SqlStatementCounter(BudgetMode.FAIL);
+		fail.start();
+		fail.budget(0, "test");
+		assertThatThrownBy(() -> fail.inspect("select 1 from dual")).isInstanceOf(AssertionError.class);
+		fail.stop();
+
+		// 요청 밖 (start 전) 은 카운트/예산 없음
+		assertThat(fail.inspect("select 1 from dual")).isEqualTo("select 1 from dual");
+		assertThat(fail.current()).isZero();
+	}
+}
@@ -0,0 +1,180 @@
+package com.thejoa703;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.thejoa703.security.AccessTokenRevocationList;
+import com.thejoa703.security.JwtProvider;
+import com.thejoa703.security.LoginThrottle;
+import com.thejoa703.security.RateLimitProperties;
+import com.thejoa703.security.RateLimiter;
+import com.thejoa703.security.TokenStore;
+import com.thejoa703.security.TokenStore.Rotation;
+
+/**
+ * Refresh Token 회전 테스트 (Redis Lua)
+ * - 기기(패밀리)별 세션 , 재사용 감지시 패밀리 폐기 , 동시 재발급 유예
+ * Access Token 폐기목록 (로컬 Bloom + Redis)
+ * 로그인 시도 제한 (Redis 토큰버킷) , 쓰기 API 요청 제한 (GCRA)
+ */
+@SpringBootTest
+class BackApplicationTests8_TokenStore {
+
+	private static final long TTL = 600;
+	private static final String USER_ID = "token-store-test-" + JwtProvider.newTokenId();
+
+	@Autowired private TokenStore tokenStore;
+	@Autowired private AccessTokenRevocationList revocationList;
+	@Autowired private StringRedisTemplate redisTemplate;
+	@Autowired private LoginThrottle loginThrottle;
+	@Autowired private RateLimiter rateLimiter;
+
+	@AfterEach
+	void cleanup() {
+		tokenStore.deleteAllRefreshTokens(USER_ID);
+		redisTemplate.opsForHash().delete("revoked:users", USER_ID);
+	}
+
+	@Test
+	@DisplayName("■ 회전 성공 → 직전 토큰은 유예 , 더 이전 토큰은 재사용 감지로 패밀리 폐기")
+	void rotateAndDetectReuse() {
+		String family = JwtProvider.newTokenId();
+		String t1 = JwtProvider.newTokenId();
+		String t2 = JwtProvider.newTokenId();
+		String t3 = JwtProvider.newTokenId();
+		tokenStore.saveRefreshToken(USER_ID, family, t1, TTL);
+
+		assertThat(tokenStore.rotateRefreshToken(USER_ID, family, t1, t2, TTL)).isEqualTo(Rotation.ROTATED);
+		assertThat(tokenStore.rotateRefreshToken(USER_ID, family, t2, t3, TTL)).isEqualTo(Rotation.ROTATED);
+
+		// 동시 재발급 : 방금 회전된 t2 는 거절만
+		assertThat(tokenStore.rotateRefreshToken(USER_ID, family, t2, JwtProvider.newTokenId(), TTL)).isEqualTo(Rotation.GRACE);
+
+		// 오래된 t1 재사용 → 패밀리 폐기 , 현재 토큰 t3 도 더이상 사용불가
+		assertThat(tokenStore.rotateRefreshToken(USER_ID, family, t1, JwtProvider.newTokenId(), TTL)).isEqualTo(Rotation.REUSED);
+		assertThat(tokenStore.rotateRefreshToken(USER_ID, family, t3, JwtProvider.newTokenId(), TTL)).isEqualTo(Rotation.UNKNOWN);
+	}
+
+	@Test
+	@DisplayName("■ 기기별 세션 - 한 기기 로그아웃은 다른 기기에 영향 없음")
+	void multiDeviceSessions() {
+		String phone = JwtProvider.newTokenId();
+		String laptop = JwtProvider.newTokenId();
+		String phoneToken = JwtProvider.newTokenId();
+		String laptopToken = JwtProvider.newTokenId();
+		tokenStore.saveRefreshToken(USER_ID, phone, phoneToken, TTL);
+		tokenStore.saveRefreshToken(USER_ID, laptop, laptopToken, TTL);
+
+		tokenStore.deleteRefreshToken(USER_ID, phone);
+
+		assertThat(tokenStore.rotateRefreshToken(USER_ID, phone, phoneToken, JwtProvider.newTokenId(), TTL)).isEqualTo(Rotation.UNKNOWN);
+		assertThat(tokenStore.rotateRefreshToken(USER_ID, laptop, laptopToken, JwtProvider.newTokenId(), TTL)).isEqualTo(Rotation.ROTATED);
+
+		// 전체 로그아웃
+		tokenStore.deleteAllRefreshTokens(USER_ID);
+		assertThat(tokenStore.rotateRefreshToken(USER_ID, laptop, laptopToken, JwtProvider.newTokenId(), TTL)).isEqualTo(Rotation.UNKNOWN);
+	}
+
+	@Test
+	@DisplayName("■ 만료된 기기 세션은 다른 기기 로그인/재발급 때 정리")
+	void pruneExpiredFamilies() throws InterruptedException {
+		String stale = JwtProvider.newTokenId();
+		String active = JwtProvider.newTokenId();
+		String activeToken = JwtProvider.newTokenId();
+		tokenStore.saveRefreshToken(USER_ID, stale, JwtProvider.newTokenId(), 1);  // 1초 후 만료
+		tokenStore.saveRefreshToken(USER_ID, active, activeToken, TTL);            // 키 TTL 은 연장됨
+
+		Thread.sleep(1100);
+		assertThat(tokenStore.rotateRefreshToken(USER_ID, active, activeToken, JwtProvider.newTokenId(), TTL)).isEqualTo(Rotation.ROTATED);
+
+		assertThat(redisTemplate.opsForHash().keys("refresh:sessions:" + USER_ID))
+				.doesNotContain(stale, stale + ":exp")
+				.contains(active, active + ":exp");
+	}
+
+	@Test
+	@DisplayName("■ Access Token 폐기 - jti 단건 / 사용자 전체 , Bloom 재구성 후에도 유지")
+	void revokeAccessTokens() {
+		Date issuedAt = new Date(System.currentTimeMillis() - 1000);
+		Date expiration = new Date(System.currentTimeMillis() + 60_000);
+		String revoked = JwtProvider.newTokenId();
+		String alive = JwtProvider.newTokenId();
+
+		revocationList.revoke(revoked, expiration);
+		assertThat(revocationList.isRevoked(revoked, USER_ID, issuedAt)).isTrue();
+		assertThat(revocationList.isRevoked(alive, USER_ID, issuedAt)).isFalse();
+
+		// 모든 기기 로그아웃 : 이전에 발급된 토큰 전부 폐기 , 이후 발급분은 유효
+		revocationList.revokeAll(USER_ID);
+		assertThat(revocationList.isRevoked(alive, USER_ID, issuedAt)).isTrue();
+		assertThat(revocationList.isRevoked(JwtProvider.newTokenId(), USER_ID, new Date(System.currentTimeMillis() + 1000))).isFalse();
+		// 같은 초에 다시 로그인해서 받은 토큰 (iat 는 초 단위로 잘림) 도 유효
+		Date sameSecond = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+		assertThat(revocationList.isRevoked(JwtProvider.newTokenId(), USER_ID, sameSecond)).isFalse();
+
+		// Redis 에서 Bloom 재구성
+		revocationList.refresh();
+		assertThat(revocationList.isRevoked(revoked, "other-user", issuedAt)).isTrue();
+		assertThat(revocationList.isRevoked(alive, USER_ID, issuedAt)).isTrue();
+	}
+
+	@Test
+	@DisplayName("■ 로그인 시도 제한 - 이메일 버킷(기본 5회) 소진시 대기시간 반환")
+	void loginThrottle() {
+		String ip = "test-" + JwtProvider.newTokenId();
+		String email = JwtProvider.newTokenId() + "@test.com";
+		for (int i = 0; i < 5; i++) {
+			assertThat(loginThrottle.tryAcquire(ip, email)).isZero();
+		}
+		assertThat(loginThrottle.tryAcquire(ip, email)).isPositive();
+
+		// 다른 이메일은 같은 IP 라도 IP 버킷이 남아있으면 허용
+		assertThat(loginThrottle.tryAcquire(ip, "other-" + email)).isZero();
+
+		redisTemplate.delete(List.of("login:bucket:ip:" + ip, "login:bucket:email:" + email, "login:bucket:email:other-" + email));
+	}
+
+	@Test
+	@DisplayName("■ GCRA 요청 제한 - 버스트까지 허용 , 초과시 대기시간 반환 (사용자별)")
+	void rateLimiter() {
+		RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+		rule.setName("test-" + JwtProvider.newTokenId());
+		rule.setLimit(2);
+		rule.setPeriodSeconds(60);
+		rule.setBurst(2);
+
+		assertThat(rateLimiter.tryAcquire(rule, "user:1")).isZero();
+		assertThat(rateLimiter.tryAcquire(rule, "user:1")).isZero();
+		long wait = rateLimiter.tryAcquire(rule, "user:1");
+		assertThat(wait).isPositive().isLessThanOrEqualTo(30_000);
+
+		// 다른 사용자는 별도 한도
+		assertThat(rateLimiter.tryAcquire(rule, "user:2")).isZero();
+
+		redisTemplate.delete(List.of("rl:" + rule.getName() + ":user:1", "rl:" + rule.getName() + ":user:2"));
+	}
+
+	@Test
+	@DisplayName("■ GCRA 요청 간격은 최소 1ms (기간보다 큰 limit)")
+	void rateLimiterMinimumInterval() {
+		RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+		rule.setName("test-" + JwtProvider.newTokenId());
+		rule.setLimit(5000);
+		rule.setPeriodSeconds(1);
+		assertThat(rule.intervalMs()).isEqualTo(1);
+
+		assertThat(rateLimiter.tryAcquire(rule, "user:1")).isZero();  // PX 0 오류 없이 허용
+		redisTemplate.delete("rl:" + rule.getName() + ":user:1");
+	}
+}
@@ -0,0 +1,215 @@
+package com.thejoa703;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.thejoa703.cache.PostCache;
+import com.thejoa703.cache.UserNameBloomFilter;
+import com.thejoa703.config.CompressionFilter;
+import com.thejoa703.dto.request.LikeRequestDto;
+import com.thejoa703.dto.request.PostRequestDto;
+import com.thejoa703.dto.request.UserRequestDto;
+import com.thejoa703.dto.response.PostResponseDto;
+import com.thejoa703.dto.response.UserResponseDto;
+import com.thejoa703.security.JwtProvider;
+import com.thejoa703.service.AppUserService;
+import com.thejoa703.service.PostLikeService;
+import com.thejoa703.service.PostService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+
+/**
+ * HTTP 계층 테스트
+ * - 조건부 GET (ETag / Last-Modified → 304)
+ * - 게시글 단건 캐시 , 프로필 캐시 , 이메일/닉네임 중복확인
+ * - 응답 gzip 압축 , CBOR / Smile 인코딩
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class BackApplicationTests9_Http {
+
+	@Autowired private MockMvc          mockMvc;
+	@Autowired private AppUserService   appUserSerivce;
+	@Autowired private PostService      postService;
+	@Autowired private PostLikeService  postLikeService;
+	@Autowired private JwtProvider      jwtProvider;
+	@Autowired private EntityManager    entityManager;
+	@Autowired private StringRedisTemplate redisTemplate;
+	@Autowired private UserNameBloomFilter userNameBloom;
+	@Autowired private MeterRegistry    meterRegistry;
+
+	private UserResponseDto user;
+	private PostResponseDto post;
+
+	@BeforeEach
+	void setup() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		user = appUserSerivce.signup(new UserRequestDto("http" + suffix + "@test.com", "pass123", "http" + suffix, "local"), null);
+		post = postService.createPost(user.getId(), new PostRequestDto("조건부 GET 게시글", "#etag"), null);
+	}
+
+	@Test
+	@DisplayName("■ 게시글 단건 - If-None-Match 일치시 304 , 좋아요 후에는 새 ETag")
+	void postConditionalGet() throws Exception {
+		String etag = mockMvc.perform(get("/api/posts/{postId}", post.getId()))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/api/posts/{postId}", post.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+				.andExpect(result -> assertThat(result.getResponse().getContentAsString()).isEmpty());
+
+		// 좋아요 수가 바뀌면 응답도 바뀜 → 304 아님
+		postLikeService.addLike(user.getId(), new LikeRequestDto(post.getId()));
+		entityManager.clear();  // 실제 요청은 요청마다 새 영속성 컨텍스트
+		String changed = mockMvc.perform(get("/api/posts/{postId}", post.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(changed).isNotEqualTo(etag);
+	}
+
+	@Test
+	@DisplayName("■ 게시글 캐시 - 두번째 조회는 캐시 , 좋아요/수정 후에는 다시 로딩")
+	void postCache() {
+		PostCache.Entry first = postService.getCachedPost(post.getId());
+		assertThat(postService.getCachedPost(post.getId())).isSameAs(first);
+
+		postLikeService.addLike(user.getId(), new LikeRequestDto(post.getId()));
+		entityManager.clear();
+		PostCache.Entry liked = postService.getCachedPost(post.getId());
+		assertThat(liked).isNotSameAs(first);
+		assertThat(liked.post().getLikeCount()).isEqualTo(1);
+		assertThat(liked.etag()).isNotEqualTo(first.etag());
+
+		postService.updatePost(user.getId(), post.getId(), new PostRequestDto("수정된 게시글", "#etag"), null);
+		assertThat(postService.getPost(post.getId()).getContent()).isEqualTo("수정된 게시글");
+	}
+
+	@Test
+	@DisplayName("■ /auth/me - ETag + Last-Modified , 변경 없으면 304")
+	void meConditionalGet() throws Exception {
+		String token = jwtProvider.createAccessToken(user.getId().toString(), Map.of("role", user.getRole()));
+
+		String etag = mockMvc.perform(get("/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/auth/me")
+						.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	@DisplayName("■ 프로필 캐시 - Redis 에서 조회 , 닉네임 변경시 무효화")
+	void profileCache() {
+		String key = "user:profile:" + user.getId();
+		assertThat(appUserSerivce.getProfile(user.getId()).user().getNickname()).isEqualTo(user.getNickname());
+		assertThat(redisTemplate.hasKey(key)).isTrue();
+		assertThat(appUserSerivce.findRoleByUserId(user.getId())).isEqualTo(user.getRole());
+
+		String renamed = "re" + user.getNickname();
+		appUserSerivce.updateNickname(user.getId(), renamed);
+		assertThat(redisTemplate.hasKey(key)).isFalse();
+		assertThat(appUserSerivce.getProfile(user.getId()).user().getNickname()).isEqualTo(renamed);
+	}
+
+	@Test
+	@DisplayName("■ 이메일/닉네임 중복확인 - 가입 즉시 Bloom 반영 , 미사용은 false")
+	void availabilityCheck() throws Exception {
+		assertThat(userNameBloom.mightContainNickname(user.getNickname())).isTrue();
+		assertThat(userNameBloom.mightContainEmail(user.getEmail())).isTrue();
+
+		mockMvc.perform(get("/auth/check-nickname").param("nickname", user.getNickname()))
+				.andExpect(status().isOk())
+				.andExpect(result -> assertThat(result.getResponse().getContentAsString()).isEqualTo("true"));
+		mockMvc.perform(get("/auth/check-email").param("email", "free" + UUID.randomUUID() + "@test.com"))
+				.andExpect(status().isOk())
+				.andExpect(result -> assertThat(result.getResponse().getContentAsString()).isEqualTo("false"));
+	}
+
+	@Test
+	@DisplayName("■ 응답 압축 - 큰 피드는 gzip , 작은 응답은 그대로")
+	void gzipCompression() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			postService.createPost(user.getId(), new PostRequestDto("압축 테스트 게시글 ".repeat(20) + i, "#gzip"), null);
+		}
+		double savedBefore = meterRegistry.counter(CompressionFilter.METRIC_PREFIX + "saved").count();
+
+		MvcResult feed = mockMvc.perform(get("/api/posts/paged").param("page", "1").param("size", "10")
+						.header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andReturn();
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(feed.getResponse().getContentAsByteArray()))) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("압축 테스트 게시글");
+		}
+		assertThat(meterRegistry.counter(CompressionFilter.METRIC_PREFIX + "saved").count()).isGreaterThan(savedBefore);
+
+		mockMvc.perform(get("/auth/check-nickname").param("nickname", user.getNickname())
+						.header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)));  // 작아서 안했을 뿐 압축 가능
+
+		// gzip 을 받지 않는 요청 - 압축 안함 , 공유 캐시용 Vary 는 동일
+		mockMvc.perform(get("/api/posts/paged").param("page", "1").param("size", "10"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)));
+	}
+
+	@Test
+	@DisplayName("■ 게시글 - Accept: application/cbor , application/x-jackson-smile 이면 같은 DTO 를 바이너리로")
+	void binaryEncoding() throws Exception {
+		byte[] json = mockMvc.perform(get("/api/posts/{postId}", post.getId()))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsByteArray();
+
+		MvcResult cbor = mockMvc.perform(get("/api/posts/{postId}", post.getId()).accept("application/cbor"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith("application/cbor"))
+				.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+				.andReturn();
+		byte[] cborBody = cbor.getResponse().getContentAsByteArray();
+		assertThat(new ObjectMapper(new CBORFactory()).readTree(cborBody)).isEqualTo(new ObjectMapper().readTree(json));
+		assertThat(cborBody.length).isLessThan(json.length);
+
+		byte[] smile = mockMvc.perform(get("/api/posts/paged").param("page", "1").param("size", "10")
+						.accept("application/x-jackson-smile"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+				.andReturn().getResponse().getContentAsByteArray();
+		assertThat(new ObjectMapper(new SmileFactory()).readTree(smile).findValuesAsText("content")).contains("조건부 GET 게시글");
+	}
+}
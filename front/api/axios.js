@@ -25,17 +25,28 @@ api.interceptors.request.use(
   },
   (error) => Promise.reject(error)  // 요청에러처리
 ); 
+// 동시에 여러 요청이 401 을 받아도 재발급은 한번만 (나머지는 같은 결과를 기다림)
+let refreshing = null;
+const refreshAccessToken = () => {
+  if (!refreshing) {
+    refreshing = api.post("/auth/refresh")
+      .then(({ data }) => data?.accessToken)
+      .finally(() => { refreshing = null; });
+  }
+  return refreshing;
+};
+
 api.interceptors.response.use(
   (res) => res, // → 정상 응답은 그대로 반환
   async (error) => {
     const original = error.config; // → 원래 요청 정보
     const status = error.response?.status; // → 응답 상태 코드
     // 401 발생시 Refresh Token 재발급
-    if (status === 401 && !original._retry) {
+    // (재발급 요청 자체의 401 은 그대로 실패 - 자기 자신을 기다리지 않도록)
+    if (status === 401 && !original._retry && !original.url?.includes("/auth/refresh")) {
       original._retry = true; // → 무한 루프 방지 플래그
       try {
-        const { data } = await api.post("/auth/refresh"); 
-        const newAccessToken = data?.accessToken;  
+        const newAccessToken = await refreshAccessToken();  // 진행중인 재발급이 있으면 공유
 
         if (typeof window !== "undefined" && newAccessToken) {
           localStorage.setItem("accessToken", newAccessToken);  // local 저장